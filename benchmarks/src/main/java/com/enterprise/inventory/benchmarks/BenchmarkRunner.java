@@ -0,0 +1,43 @@
+package com.enterprise.inventory.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Entry point of benchmarks.jar.
+ * Runs the selected suites twice, single-threaded and with one thread per core, with the
+ * GC profiler attached so allocation rates (gc.alloc.rate.norm) are reported alongside
+ * throughput. Each run writes JSON results to target/jmh-results/ for tracking over time.
+ *
+ * Accepts regular JMH command line options, e.g. {@code java -jar target/benchmarks.jar Quantity}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        File resultDirectory = new File("target/jmh-results");
+        resultDirectory.mkdirs();
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads : cores > 1 ? new int[] {1, cores} : new int[] {1}) {
+            new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .threads(threads)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(new File(resultDirectory, "jmh-result-threads-" + threads + ".json").getPath())
+                .build())
+                .run();
+        }
+    }
+}
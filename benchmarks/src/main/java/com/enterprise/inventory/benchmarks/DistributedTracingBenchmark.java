@@ -0,0 +1,136 @@
+package com.enterprise.inventory.benchmarks;
+
+import com.enterprise.inventory.infrastructure.observability.TailSamplingSpanProcessor;
+import com.enterprise.shared.observability.DistributedTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracing overhead per reserve request, in nanoseconds, for the controller plus use-case pair.
+ * nested* opens a span per layer and sets attributes eagerly, as before; joined* lets the use
+ * case join the controller span and computes string attributes only for recording spans.
+ *
+ * The sampler is always-on, always-off (unsampled spans), or tail, where every span is recorded
+ * but fast traces are dropped by TailSamplingSpanProcessor. The exporter discards everything.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DistributedTracingBenchmark {
+
+    @Param({"always-on", "always-off", "tail"})
+    private String sampling;
+
+    private SdkTracerProvider tracerProvider;
+    private DistributedTracing tracing;
+
+    private final UUID storeId = UUID.randomUUID();
+    private final UUID reservationId = UUID.randomUUID();
+    private final String productSku = "PROD123456";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpanProcessor exporting = SimpleSpanProcessor.create(new DiscardingExporter());
+        SpanProcessor processor = sampling.equals("tail")
+            ? new TailSamplingSpanProcessor(exporting, Duration.ofMillis(500), 10000, 256, Duration.ofMinutes(1))
+            : exporting;
+
+        tracerProvider = SdkTracerProvider.builder()
+            .setSampler(sampling.equals("always-off") ? Sampler.alwaysOff() : Sampler.alwaysOn())
+            .addSpanProcessor(processor)
+            .build();
+        tracing = new DistributedTracing(OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tracerProvider.shutdown();
+    }
+
+    @Benchmark
+    public int nestedEager() {
+        return tracing.executeTraced("api-reserve-stock", span -> {
+            span.setAttribute("api.operation", "reserve-stock");
+            span.setAttribute("store.id", storeId.toString());
+            span.setAttribute("product.sku", productSku);
+
+            return tracing.executeTraced("reserve-stock", inner -> {
+                inner.setAttribute("store.id", storeId.toString());
+                inner.setAttribute("product.sku", productSku);
+                inner.setAttribute("reservation.id", reservationId.toString());
+                inner.setAttribute("reservation.success", true);
+                return 1;
+            });
+        });
+    }
+
+    @Benchmark
+    public int joinedLazy() {
+        return tracing.executeTraced("api-reserve-stock", span -> {
+            span.setAttribute("api.operation", "reserve-stock");
+            tracing.addSpanAttribute(span, "store.id", () -> storeId.toString());
+            span.setAttribute("product.sku", productSku);
+
+            return tracing.joinTraced("reserve-stock", inner -> {
+                addAttributes(inner);
+                inner.setAttribute("reservation.success", true);
+                return 1;
+            });
+        });
+    }
+
+    private void addAttributes(Span span) {
+        if (!span.isRecording()) {
+            return;
+        }
+        span.setAttribute("store.id", storeId.toString());
+        span.setAttribute("product.sku", productSku);
+        span.setAttribute("reservation.id", reservationId.toString());
+    }
+
+    private static final class DiscardingExporter implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.enterprise.inventory.benchmarks;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregate operations on the reserve/commit path.
+ * Each thread owns its Inventory, so multi-threaded runs measure allocation pressure and
+ * scaling rather than contention. Domain events are cleared on every call, as the repository does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InventoryDomainBenchmark {
+
+    private static final Quantity ONE = Quantity.of(1);
+    private static final String REASON = "benchmark";
+
+    private final UUID storeId = UUID.randomUUID();
+    private final ProductSku productSku = ProductSku.of("BENCH00001");
+    private final UUID reservationId = UUID.randomUUID();
+    private final UUID transactionId = UUID.randomUUID();
+
+    private Inventory inventory;
+
+    @Setup(Level.Iteration)
+    public void resetStock() {
+        inventory = new Inventory(UUID.randomUUID(), storeId, productSku,
+            Quantity.of(1_000_000_000), Quantity.zero(), Quantity.zero(), Instant.now(), 1L);
+    }
+
+    @Benchmark
+    public StockReservation reserveStock() {
+        StockReservation reservation = inventory.reserveStock(ONE, reservationId, REASON);
+        inventory.clearDomainEvents();
+        return reservation;
+    }
+
+    @Benchmark
+    public Inventory reserveThenCommitStock() {
+        inventory.reserveStock(ONE, reservationId, REASON);
+        inventory.commitStock(reservationId, ONE, transactionId, "customer-1");
+        inventory.clearDomainEvents();
+        return inventory;
+    }
+
+    @Benchmark
+    public Inventory reserveThenReleaseReservation() {
+        inventory.reserveStock(ONE, reservationId, REASON);
+        inventory.releaseReservation(reservationId, ONE, REASON);
+        inventory.clearDomainEvents();
+        return inventory;
+    }
+}
@@ -0,0 +1,50 @@
+package com.enterprise.inventory.benchmarks;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.infrastructure.persistence.InventoryEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JPA entity to domain mapping, paid on every repository read and write.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InventoryEntityMappingBenchmark {
+
+    private InventoryEntity entity;
+    private Inventory inventory;
+
+    @Setup
+    public void createFixtures() {
+        entity = new InventoryEntity(UUID.randomUUID(), UUID.randomUUID(), "PROD123456",
+            150, 12, 340, Instant.now(), 42L);
+        inventory = entity.toDomain();
+    }
+
+    @Benchmark
+    public Inventory toDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public InventoryEntity fromDomain() {
+        return InventoryEntity.fromDomain(inventory);
+    }
+}
@@ -0,0 +1,66 @@
+package com.enterprise.inventory.benchmarks;
+
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quantity arithmetic and ProductSku construction, both executed several times per request.
+ * Inputs are read from non-final fields so the JIT cannot constant-fold them.
+ *
+ * Compare gc.alloc.rate.norm: quantityAddSmall and productSkuInterned should report ~0 B/op,
+ * against the allocating quantityAddLarge (outside the small-value cache) and productSkuConstruction.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueObjectBenchmark {
+
+    private Quantity small = Quantity.of(5);
+    private Quantity large = Quantity.of(12_345);
+    private String sku = "PROD123456";
+    private String lowerCaseSku = " prod123456 ";
+
+    @Benchmark
+    public Quantity quantityAddSmall() {
+        return small.add(small);
+    }
+
+    @Benchmark
+    public Quantity quantityAddLarge() {
+        return large.add(small);
+    }
+
+    @Benchmark
+    public Quantity quantitySubtract() {
+        return large.subtract(small);
+    }
+
+    @Benchmark
+    public ProductSku productSkuConstruction() {
+        return new ProductSku(sku);
+    }
+
+    @Benchmark
+    public ProductSku productSkuInterned() {
+        return ProductSku.of(sku);
+    }
+
+    @Benchmark
+    public ProductSku productSkuConstructionNormalizing() {
+        return new ProductSku(lowerCaseSku);
+    }
+}
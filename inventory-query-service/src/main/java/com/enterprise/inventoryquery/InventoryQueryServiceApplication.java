@@ -0,0 +1,17 @@
+package com.enterprise.inventoryquery;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Main application class for the Inventory Query Service.
+ * Serves read-only stock queries on a non-blocking stack (WebFlux, R2DBC, reactive Redis)
+ * against the inventory-service database; all writes stay with inventory-service.
+ */
+@SpringBootApplication
+public class InventoryQueryServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(InventoryQueryServiceApplication.class, args);
+    }
+}
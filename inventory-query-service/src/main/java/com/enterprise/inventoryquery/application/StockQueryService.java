@@ -0,0 +1,42 @@
+package com.enterprise.inventoryquery.application;
+
+import com.enterprise.inventoryquery.domain.StockLevel;
+import com.enterprise.inventoryquery.infrastructure.cache.ReactiveStockCache;
+import com.enterprise.inventoryquery.infrastructure.persistence.ReactiveStockQueries;
+import com.enterprise.shared.common.ProductSku;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read-only stock queries.
+ * Single positions are served from the Redis cache when present, listings straight from the
+ * database; like GET /stores/{storeId}/products/{sku} on inventory-service, results may lag
+ * the latest write briefly.
+ */
+@Service
+public class StockQueryService {
+
+    private final ReactiveStockCache stockCache;
+    private final ReactiveStockQueries stockQueries;
+
+    public StockQueryService(ReactiveStockCache stockCache, ReactiveStockQueries stockQueries) {
+        this.stockCache = stockCache;
+        this.stockQueries = stockQueries;
+    }
+
+    public Mono<StockLevel> findStockLevel(UUID storeId, ProductSku productSku) {
+        return stockCache.find(storeId, productSku.getValue())
+            .switchIfEmpty(Mono.defer(() -> stockQueries.findStockLevel(storeId, productSku.getValue())));
+    }
+
+    public Flux<StockLevel> findByStore(UUID storeId) {
+        return stockQueries.findByStoreId(storeId);
+    }
+
+    public Flux<StockLevel> findByProduct(ProductSku productSku) {
+        return stockQueries.findByProductSku(productSku.getValue());
+    }
+}
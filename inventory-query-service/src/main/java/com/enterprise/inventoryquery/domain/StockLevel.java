@@ -0,0 +1,15 @@
+package com.enterprise.inventoryquery.domain;
+
+import java.util.UUID;
+
+/**
+ * Read model of one store×SKU stock position, including stock parked in hot-key buckets.
+ */
+public record StockLevel(
+    UUID storeId,
+    String productSku,
+    int availableQuantity,
+    int reservedQuantity,
+    int committedQuantity,
+    long version
+) {}
@@ -0,0 +1,59 @@
+package com.enterprise.inventoryquery.infrastructure.cache;
+
+import com.enterprise.inventoryquery.domain.StockLevel;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking reader for the stock entries inventory-service keeps in Redis.
+ * inventory-service owns the entries (version-guarded writes, invalidation on release), so this
+ * side only reads: a miss, an unreadable entry or a Redis error all fall through to the database.
+ */
+@Component
+public class ReactiveStockCache {
+
+    private static final String INVENTORY_KEY_PREFIX = "inventory:";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ReactiveStockCache(ReactiveStringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public Mono<StockLevel> find(UUID storeId, String productSku) {
+        return redisTemplate.opsForValue()
+            .get(INVENTORY_KEY_PREFIX + storeId + ":" + productSku)
+            .flatMap(json -> Mono.fromCallable(() -> objectMapper.readValue(json, CachedStock.class)))
+            .filter(CachedStock::isComplete)
+            .map(cached -> new StockLevel(
+                storeId,
+                productSku,
+                cached.availableQuantity(),
+                cached.reservedQuantity(),
+                cached.committedQuantity(),
+                cached.version()))
+            .onErrorResume(e -> Mono.empty());
+    }
+
+    /**
+     * Fields of inventory-service's InventoryCacheData; its type hint and any other field are ignored.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record CachedStock(
+        Integer availableQuantity,
+        Integer reservedQuantity,
+        Integer committedQuantity,
+        Long version
+    ) {
+        boolean isComplete() {
+            return availableQuantity != null && reservedQuantity != null && committedQuantity != null && version != null;
+        }
+    }
+}
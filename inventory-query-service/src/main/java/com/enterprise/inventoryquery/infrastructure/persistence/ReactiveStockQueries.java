@@ -0,0 +1,93 @@
+package com.enterprise.inventoryquery.infrastructure.persistence;
+
+import com.enterprise.inventoryquery.domain.StockLevel;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Stock queries over R2DBC.
+ * Same filters as JpaInventoryRepository.findByStoreIdAndProductSku, findByStoreId and
+ * findByProductSku, with the bucket totals of hot SKUs added in the same statement as the
+ * inventory-service read path does. Listings are ordered so a streamed response is stable,
+ * and rows are pulled from the driver only as fast as the client consumes them.
+ */
+@Component
+public class ReactiveStockQueries {
+
+    private static final String SELECT_STOCK_LEVEL = """
+        SELECT i.store_id, i.product_sku,
+               i.available_quantity + COALESCE(SUM(b.available_quantity), 0) AS available_quantity,
+               i.reserved_quantity + COALESCE(SUM(b.reserved_quantity), 0) AS reserved_quantity,
+               i.committed_quantity, i.version
+          FROM inventory i
+          LEFT JOIN inventory_stock_buckets b ON b.store_id = i.store_id AND b.product_sku = i.product_sku
+        """;
+
+    private static final String STOCK_LEVEL_SQL = SELECT_STOCK_LEVEL + """
+         WHERE i.store_id = :storeId
+           AND i.product_sku = :productSku
+         GROUP BY i.id
+        """;
+
+    private static final String STORE_STOCK_SQL = SELECT_STOCK_LEVEL + """
+         WHERE i.store_id = :storeId
+         GROUP BY i.id
+         ORDER BY i.product_sku
+        """;
+
+    private static final String PRODUCT_STOCK_SQL = SELECT_STOCK_LEVEL + """
+         WHERE i.product_sku = :productSku
+         GROUP BY i.id
+         ORDER BY i.store_id
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final int prefetch;
+
+    public ReactiveStockQueries(DatabaseClient databaseClient,
+                                @Value("${inventory.query.prefetch:256}") int prefetch) {
+        this.databaseClient = databaseClient;
+        this.prefetch = prefetch;
+    }
+
+    public Mono<StockLevel> findStockLevel(UUID storeId, String productSku) {
+        return databaseClient.sql(STOCK_LEVEL_SQL)
+            .bind("storeId", storeId)
+            .bind("productSku", productSku)
+            .map(ReactiveStockQueries::toStockLevel)
+            .one();
+    }
+
+    public Flux<StockLevel> findByStoreId(UUID storeId) {
+        return databaseClient.sql(STORE_STOCK_SQL)
+            .bind("storeId", storeId)
+            .map(ReactiveStockQueries::toStockLevel)
+            .all()
+            .limitRate(prefetch);
+    }
+
+    public Flux<StockLevel> findByProductSku(String productSku) {
+        return databaseClient.sql(PRODUCT_STOCK_SQL)
+            .bind("productSku", productSku)
+            .map(ReactiveStockQueries::toStockLevel)
+            .all()
+            .limitRate(prefetch);
+    }
+
+    private static StockLevel toStockLevel(Readable row) {
+        return new StockLevel(
+            row.get("store_id", UUID.class),
+            row.get("product_sku", String.class),
+            row.get("available_quantity", Number.class).intValue(),
+            row.get("reserved_quantity", Number.class).intValue(),
+            row.get("committed_quantity", Integer.class),
+            row.get("version", Long.class)
+        );
+    }
+}
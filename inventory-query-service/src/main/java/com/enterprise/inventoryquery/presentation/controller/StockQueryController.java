@@ -0,0 +1,57 @@
+package com.enterprise.inventoryquery.presentation.controller;
+
+import com.enterprise.inventoryquery.application.StockQueryService;
+import com.enterprise.inventoryquery.presentation.dto.StockLevelResponse;
+import com.enterprise.shared.common.ProductSku;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive REST controller for stock queries.
+ * Listings stream as a JSON array, or as NDJSON when requested with Accept: application/x-ndjson;
+ * either way rows are read from the database only as fast as the client drains the response.
+ */
+@RestController
+@RequestMapping("/api/v1/inventory-query")
+public class StockQueryController {
+
+    private final StockQueryService stockQueryService;
+
+    public StockQueryController(StockQueryService stockQueryService) {
+        this.stockQueryService = stockQueryService;
+    }
+
+    @GetMapping("/stores/{storeId}/products/{productSku}")
+    public Mono<ResponseEntity<StockLevelResponse>> getStockLevel(@PathVariable UUID storeId,
+                                                                  @PathVariable String productSku) {
+        return stockQueryService.findStockLevel(storeId, ProductSku.of(productSku))
+            .map(level -> ResponseEntity.ok(StockLevelResponse.from(level)))
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/stores/{storeId}",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<StockLevelResponse> getStoreStock(@PathVariable UUID storeId) {
+        return stockQueryService.findByStore(storeId).map(StockLevelResponse::from);
+    }
+
+    @GetMapping(value = "/products/{productSku}",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<StockLevelResponse> getProductStock(@PathVariable String productSku) {
+        return stockQueryService.findByProduct(ProductSku.of(productSku)).map(StockLevelResponse::from);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleInvalidSku() {
+        return ResponseEntity.badRequest().build();
+    }
+}
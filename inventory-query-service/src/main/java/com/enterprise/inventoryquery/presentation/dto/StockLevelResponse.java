@@ -0,0 +1,29 @@
+package com.enterprise.inventoryquery.presentation.dto;
+
+import com.enterprise.inventoryquery.domain.StockLevel;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for stock level queries; same shape as inventory-service's StockLevelResponse.
+ */
+public record StockLevelResponse(
+    UUID storeId,
+    String productSku,
+    Integer availableQuantity,
+    Integer reservedQuantity,
+    Integer committedQuantity,
+    Long version
+) {
+
+    public static StockLevelResponse from(StockLevel level) {
+        return new StockLevelResponse(
+            level.storeId(),
+            level.productSku(),
+            level.availableQuantity(),
+            level.reservedQuantity(),
+            level.committedQuantity(),
+            level.version()
+        );
+    }
+}
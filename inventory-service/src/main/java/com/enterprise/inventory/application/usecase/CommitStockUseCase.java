@@ -4,20 +4,26 @@ import com.enterprise.inventory.domain.model.Inventory;
 import com.enterprise.inventory.domain.model.StockReservation;
 import com.enterprise.inventory.domain.repository.InventoryRepository;
 import com.enterprise.inventory.domain.repository.StockReservationRepository;
+import com.enterprise.inventory.domain.service.ReservationExpiryScheduler;
 import com.enterprise.shared.common.Quantity;
 import com.enterprise.shared.observability.DistributedTracing;
 import com.enterprise.shared.observability.InventoryMetrics;
+import com.enterprise.shared.observability.LatencyBreakdown;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.opentelemetry.api.trace.Span;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.UUID;
 
 /**
  * Use Case for committing reserved stock to complete a transaction.
  * Implements Saga pattern for distributed transaction management.
+ * Each stage of a commit is timed into the latency breakdown, per store.
  */
 @Service
 @Transactional
@@ -27,29 +33,42 @@ public class CommitStockUseCase {
     private final StockReservationRepository reservationRepository;
     private final DistributedTracing distributedTracing;
     private final InventoryMetrics inventoryMetrics;
+    private final ObjectProvider<ReservationExpiryScheduler> expiryScheduler;
+    private final StageTimings stages;
+    private final LatencyBreakdown.Stage reservationLookupStage;
 
     public CommitStockUseCase(InventoryRepository inventoryRepository,
                              StockReservationRepository reservationRepository,
                              DistributedTracing distributedTracing,
-                             InventoryMetrics inventoryMetrics) {
+                             InventoryMetrics inventoryMetrics,
+                             LatencyBreakdown latencyBreakdown,
+                             ObjectProvider<ReservationExpiryScheduler> expiryScheduler) {
         this.inventoryRepository = inventoryRepository;
         this.reservationRepository = reservationRepository;
         this.distributedTracing = distributedTracing;
         this.inventoryMetrics = inventoryMetrics;
+        this.expiryScheduler = expiryScheduler;
+        this.stages = new StageTimings(latencyBreakdown, "commit");
+        this.reservationLookupStage = latencyBreakdown.stage("commit", "reservation-lookup");
     }
 
     @CircuitBreaker(name = "stock-commit", fallbackMethod = "fallbackCommitStock")
     @Retry(name = "stock-commit")
     public CommitResult execute(CommitStockCommand command) {
-        return distributedTracing.executeTraced("commit-stock", span -> {
+        return distributedTracing.joinTraced("commit-stock", span -> {
             addTraceAttributes(span, command);
 
             try {
+                long mark = System.nanoTime();
+
                 // Find and validate reservation
                 StockReservation reservation = findActiveReservation(command.reservationId());
+                UUID storeId = reservation.getStoreId();
+                mark = reservationLookupStage.record(storeId, mark);
 
                 // Find inventory
                 Inventory inventory = findInventory(reservation.getStoreId(), reservation.getProductSku());
+                mark = stages.lookup.record(storeId, mark);
 
                 // Commit stock - this will fire domain events
                 inventory.commitStock(
@@ -61,23 +80,28 @@ public class CommitStockUseCase {
 
                 // Update reservation status
                 reservation.markAsCommitted();
+                mark = stages.mutation.record(storeId, mark);
 
                 // Persist changes
                 inventoryRepository.save(inventory);
+                mark = stages.inventorySave.record(storeId, mark);
                 reservationRepository.save(reservation);
+                stages.reservationSave.record(storeId, mark);
+                cancelExpiryAfterCommit(reservation.getReservationId());
+                stages.timeCommit(storeId);
 
                 // Record metrics
-                inventoryMetrics.recordStockCommit(reservation.getStoreId().toString());
+                inventoryMetrics.recordStockCommit(reservation.getStoreId());
 
                 span.setAttribute("commit.success", true);
-                span.setAttribute("transaction.id", command.transactionId().toString());
+                distributedTracing.addSpanAttribute(span, "transaction.id", () -> command.transactionId().toString());
 
                 return new CommitResult(
                     command.reservationId(),
                     command.transactionId(),
                     true,
                     "Stock committed successfully",
-                    inventory.getAvailableQuantity()
+                    remainingStock(inventory)
                 );
 
             } catch (Exception e) {
@@ -89,6 +113,18 @@ public class CommitStockUseCase {
         });
     }
 
+    /**
+     * A hot row was loaded without the available stock its buckets hold, so read the total.
+     */
+    private Quantity remainingStock(Inventory inventory) {
+        if (!inventoryRepository.isHotKey(inventory.getStoreId(), inventory.getProductSku())) {
+            return inventory.getAvailableQuantity();
+        }
+        return inventoryRepository.findStockLevel(inventory.getStoreId(), inventory.getProductSku())
+            .map(Inventory::getAvailableQuantity)
+            .orElse(inventory.getAvailableQuantity());
+    }
+
     private StockReservation findActiveReservation(UUID reservationId) {
         StockReservation reservation = reservationRepository.findById(reservationId)
             .orElseThrow(() -> new ReservationNotFoundException(
@@ -114,7 +150,32 @@ public class CommitStockUseCase {
                              storeId, productSku.getValue())));
     }
 
+    /**
+     * Stop the expiry timer once the commit is durable; a rolled-back commit keeps it running.
+     */
+    private void cancelExpiryAfterCommit(UUID reservationId) {
+        ReservationExpiryScheduler scheduler = expiryScheduler.getIfAvailable();
+        if (scheduler == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduler.cancel(reservationId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduler.cancel(reservationId);
+            }
+        });
+    }
+
     private void addTraceAttributes(Span span, CommitStockCommand command) {
+        if (!span.isRecording()) {
+            return;
+        }
         span.setAttribute("reservation.id", command.reservationId().toString());
         span.setAttribute("transaction.id", command.transactionId().toString());
         span.setAttribute("customer.id", command.customerId());
@@ -0,0 +1,72 @@
+package com.enterprise.inventory.application.usecase;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.repository.InventoryExportRepository;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.observability.DistributedTracing;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Use Case for exporting a store's inventory, in full or incrementally.
+ * Reads straight from the database in one read-only transaction, which keeps the cursor open
+ * while the caller writes each row out. With the in-memory ledger enabled the export reflects
+ * what has been flushed so far.
+ */
+@Service
+public class ExportStoreInventoryUseCase {
+
+    private final InventoryExportRepository exportRepository;
+    private final DistributedTracing distributedTracing;
+
+    public ExportStoreInventoryUseCase(InventoryExportRepository exportRepository,
+                                       DistributedTracing distributedTracing) {
+        this.exportRepository = exportRepository;
+        this.distributedTracing = distributedTracing;
+    }
+
+    /**
+     * Hand every row of the store to the consumer. Returns the number of rows exported.
+     */
+    @Transactional(readOnly = true)
+    public long execute(UUID storeId, Instant updatedSince, Consumer<ExportedStock> consumer) {
+        return distributedTracing.executeTraced("export-store-inventory", span -> {
+            span.setAttribute("store.id", storeId.toString());
+            span.setAttribute("export.incremental", updatedSince != null);
+
+            long[] rows = {0};
+            exportRepository.streamByStoreId(storeId, updatedSince, inventory -> {
+                consumer.accept(ExportedStock.from(inventory));
+                rows[0]++;
+            });
+            span.setAttribute("export.rows", rows[0]);
+            return rows[0];
+        });
+    }
+
+    public record ExportedStock(
+        UUID storeId,
+        ProductSku productSku,
+        int availableQuantity,
+        int reservedQuantity,
+        int committedQuantity,
+        long version,
+        Instant lastUpdated
+    ) {
+        static ExportedStock from(Inventory inventory) {
+            return new ExportedStock(
+                inventory.getStoreId(),
+                inventory.getProductSku(),
+                inventory.getAvailableQuantity().getValue(),
+                inventory.getReservedQuantity().getValue(),
+                inventory.getCommittedQuantity().getValue(),
+                inventory.getVersion(),
+                inventory.getLastUpdated()
+            );
+        }
+    }
+}
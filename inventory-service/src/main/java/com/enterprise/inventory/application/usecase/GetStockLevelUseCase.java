@@ -0,0 +1,59 @@
+package com.enterprise.inventory.application.usecase;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.repository.InventoryRepository;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import com.enterprise.shared.observability.DistributedTracing;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Use Case for read-only stock level queries.
+ * Served through the cache-backed lookup and deliberately not transactional, so a cache hit
+ * never borrows a database connection.
+ */
+@Service
+public class GetStockLevelUseCase {
+
+    private final InventoryRepository inventoryRepository;
+    private final DistributedTracing distributedTracing;
+
+    public GetStockLevelUseCase(InventoryRepository inventoryRepository,
+                                DistributedTracing distributedTracing) {
+        this.inventoryRepository = inventoryRepository;
+        this.distributedTracing = distributedTracing;
+    }
+
+    public Optional<StockLevel> execute(UUID storeId, ProductSku productSku) {
+        return distributedTracing.executeTraced("get-stock-level", span -> {
+            span.setAttribute("store.id", storeId.toString());
+            span.setAttribute("product.sku", productSku.getValue());
+
+            return inventoryRepository.findStockLevel(storeId, productSku)
+                .map(StockLevel::from);
+        });
+    }
+
+    public record StockLevel(
+        UUID storeId,
+        ProductSku productSku,
+        Quantity availableQuantity,
+        Quantity reservedQuantity,
+        Quantity committedQuantity,
+        long version
+    ) {
+        static StockLevel from(Inventory inventory) {
+            return new StockLevel(
+                inventory.getStoreId(),
+                inventory.getProductSku(),
+                inventory.getAvailableQuantity(),
+                inventory.getReservedQuantity(),
+                inventory.getCommittedQuantity(),
+                inventory.getVersion()
+            );
+        }
+    }
+}
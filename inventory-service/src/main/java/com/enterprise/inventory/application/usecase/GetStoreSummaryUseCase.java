@@ -0,0 +1,126 @@
+package com.enterprise.inventory.application.usecase;
+
+import com.enterprise.inventory.domain.model.StockLevelView;
+import com.enterprise.inventory.domain.model.StoreInventorySummary;
+import com.enterprise.inventory.domain.repository.InventoryExportRepository;
+import com.enterprise.inventory.domain.repository.StoreSummaryRepository;
+import com.enterprise.shared.observability.CacheWindowStats;
+import com.enterprise.shared.observability.DistributedTracing;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Use Case for store-level inventory summaries.
+ * Summaries are maintained incrementally as rows change, so a read is a single cache lookup.
+ * A store whose summary is missing or due for resync is rebuilt once by streaming its rows
+ * through the same version-checked apply the writes use, so changes committed meanwhile are
+ * never overwritten by the older snapshot.
+ */
+@Service
+public class GetStoreSummaryUseCase {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final StoreSummaryRepository summaryRepository;
+    private final InventoryExportRepository exportRepository;
+    private final DistributedTracing distributedTracing;
+    private final TransactionTemplate readOnlyTransaction;
+    private final CacheWindowStats summaryCacheStats;
+    private final Map<UUID, ReentrantLock> rebuildLocks = new ConcurrentHashMap<>();
+
+    public GetStoreSummaryUseCase(StoreSummaryRepository summaryRepository,
+                                  InventoryExportRepository exportRepository,
+                                  DistributedTracing distributedTracing,
+                                  InventoryMetrics inventoryMetrics,
+                                  PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.exportRepository = exportRepository;
+        this.distributedTracing = distributedTracing;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.summaryCacheStats = inventoryMetrics.cacheStats("store:summary:", "l2");
+    }
+
+    public StoreSummary execute(UUID storeId) {
+        return distributedTracing.executeTraced("get-store-summary", span -> {
+            span.setAttribute("store.id", storeId.toString());
+
+            Optional<StoreInventorySummary> cached = summaryRepository.findByStoreId(storeId);
+            summaryCacheStats.recordLookup(cached.isPresent());
+            if (cached.isPresent()) {
+                return StoreSummary.from(cached.get());
+            }
+
+            long rebuildStart = System.nanoTime();
+            StoreInventorySummary summary = rebuild(storeId);
+            summaryCacheStats.recordLoad(System.nanoTime() - rebuildStart);
+            return StoreSummary.from(summary);
+        });
+    }
+
+    /**
+     * One rebuild per store at a time on this replica; waiters reuse its result.
+     */
+    private StoreInventorySummary rebuild(UUID storeId) {
+        ReentrantLock lock = rebuildLocks.computeIfAbsent(storeId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            return summaryRepository.findByStoreId(storeId).orElseGet(() -> {
+                List<StockLevelView> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+                readOnlyTransaction.executeWithoutResult(status ->
+                    exportRepository.streamByStoreId(storeId, null, inventory -> {
+                        batch.add(StockLevelView.of(inventory));
+                        if (batch.size() == REBUILD_BATCH_SIZE) {
+                            summaryRepository.apply(batch);
+                            batch.clear();
+                        }
+                    }));
+                if (!batch.isEmpty()) {
+                    summaryRepository.apply(batch);
+                }
+                summaryRepository.markComplete(storeId);
+                return summaryRepository.findByStoreId(storeId).orElseThrow();
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record StoreSummary(
+        UUID storeId,
+        long items,
+        long availableQuantity,
+        long reservedQuantity,
+        long committedQuantity,
+        long totalQuantity,
+        long outOfStockItems,
+        long lowStockItems,
+        long mediumStockItems,
+        long highStockItems
+    ) {
+        static StoreSummary from(StoreInventorySummary summary) {
+            return new StoreSummary(
+                summary.storeId(),
+                summary.items(),
+                summary.availableQuantity(),
+                summary.reservedQuantity(),
+                summary.committedQuantity(),
+                summary.totalQuantity(),
+                summary.outOfStockItems(),
+                summary.lowStockItems(),
+                summary.mediumStockItems(),
+                summary.highStockItems()
+            );
+        }
+    }
+}
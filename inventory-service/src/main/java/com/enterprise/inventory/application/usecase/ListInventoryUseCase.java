@@ -0,0 +1,129 @@
+package com.enterprise.inventory.application.usecase;
+
+import com.enterprise.inventory.application.usecase.GetStockLevelUseCase.StockLevel;
+import com.enterprise.inventory.domain.model.KeysetPage;
+import com.enterprise.inventory.domain.model.StockLevelView;
+import com.enterprise.inventory.domain.repository.InventoryListingRepository;
+import com.enterprise.inventory.domain.repository.InventoryListingRepository.LowStockKey;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import com.enterprise.shared.observability.DistributedTracing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Use Case for paginated inventory listings: by store, by product and low stock.
+ * Pages are keyset-paginated and handed out with an opaque cursor encoding the last key,
+ * so clients page forward without offsets. Reads go straight to the database, not through
+ * the per-item cache. Cursors and limits are validated before the span starts, so bad input
+ * reaches the caller as IllegalArgumentException instead of wrapped by the tracer.
+ */
+@Service
+public class ListInventoryUseCase {
+
+    private final InventoryListingRepository listingRepository;
+    private final DistributedTracing distributedTracing;
+    private final int maxPageSize;
+
+    public ListInventoryUseCase(InventoryListingRepository listingRepository,
+                                DistributedTracing distributedTracing,
+                                @Value("${inventory.listing.max-page-size:500}") int maxPageSize) {
+        this.listingRepository = listingRepository;
+        this.distributedTracing = distributedTracing;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public StockLevelPage byStore(UUID storeId, String cursor, int limit) {
+        ProductSku afterSku = cursor != null ? ProductSku.of(decode(cursor)) : null;
+        int pageSize = pageSize(limit);
+
+        return distributedTracing.executeTraced("list-inventory-by-store", span -> {
+            span.setAttribute("store.id", storeId.toString());
+
+            return toPage(listingRepository.findByStoreId(storeId, afterSku, pageSize), ProductSku::getValue);
+        });
+    }
+
+    public StockLevelPage byProduct(ProductSku productSku, String cursor, int limit) {
+        UUID afterStoreId = cursor != null ? UUID.fromString(decode(cursor)) : null;
+        int pageSize = pageSize(limit);
+
+        return distributedTracing.executeTraced("list-inventory-by-product", span -> {
+            span.setAttribute("product.sku", productSku.getValue());
+
+            return toPage(listingRepository.findByProductSku(productSku, afterStoreId, pageSize), UUID::toString);
+        });
+    }
+
+    public StockLevelPage lowStock(UUID storeId, int threshold, String cursor, int limit) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold cannot be negative");
+        }
+        LowStockKey after = cursor != null ? decodeLowStockKey(cursor) : null;
+        int pageSize = pageSize(limit);
+
+        return distributedTracing.executeTraced("list-low-stock", span -> {
+            span.setAttribute("store.id", storeId.toString());
+            span.setAttribute("low-stock.threshold", threshold);
+
+            return toPage(listingRepository.findLowStockItems(storeId, threshold, after, pageSize),
+                key -> key.availableQuantity() + ":" + key.productSku().getValue());
+        });
+    }
+
+    private int pageSize(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    private static <K> StockLevelPage toPage(KeysetPage<StockLevelView, K> page, Function<K, String> keyFormat) {
+        List<StockLevel> items = page.items().stream()
+            .map(ListInventoryUseCase::toStockLevel)
+            .toList();
+        return new StockLevelPage(items, page.hasNext() ? encode(keyFormat.apply(page.nextKey())) : null);
+    }
+
+    private static StockLevel toStockLevel(StockLevelView view) {
+        return new StockLevel(
+            view.storeId(),
+            view.productSku(),
+            Quantity.of(view.availableQuantity()),
+            Quantity.of(view.reservedQuantity()),
+            Quantity.of(view.committedQuantity()),
+            view.version()
+        );
+    }
+
+    private static LowStockKey decodeLowStockKey(String cursor) {
+        String[] parts = decode(cursor).split(":", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new LowStockKey(Integer.parseInt(parts[0]), ProductSku.of(parts[1]));
+    }
+
+    private static String encode(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * One page of stock levels; nextCursor is null on the last page.
+     */
+    public record StockLevelPage(List<StockLevel> items, String nextCursor) {}
+}
@@ -0,0 +1,98 @@
+package com.enterprise.inventory.application.usecase;
+
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.domain.repository.DomainEventOutboxRepository;
+import com.enterprise.inventory.domain.repository.InventoryRepository;
+import com.enterprise.inventory.domain.repository.StockReservationRepository;
+import com.enterprise.shared.common.Quantity;
+import com.enterprise.shared.domain.events.StockReservationReleasedEvent;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Use Case for returning stock held by abandoned reservations.
+ * Each call claims one batch of expired reservations, releases their quantities with one
+ * update per inventory row and emits a release event per reservation, all in one transaction.
+ */
+@Service
+@Transactional
+public class ReleaseExpiredReservationsUseCase {
+
+    private static final String EXPIRED_REASON = "expired";
+
+    private final InventoryRepository inventoryRepository;
+    private final StockReservationRepository reservationRepository;
+    private final DomainEventOutboxRepository eventOutbox;
+    private final InventoryMetrics inventoryMetrics;
+
+    public ReleaseExpiredReservationsUseCase(InventoryRepository inventoryRepository,
+                                             StockReservationRepository reservationRepository,
+                                             DomainEventOutboxRepository eventOutbox,
+                                             InventoryMetrics inventoryMetrics) {
+        this.inventoryRepository = inventoryRepository;
+        this.reservationRepository = reservationRepository;
+        this.eventOutbox = eventOutbox;
+        this.inventoryMetrics = inventoryMetrics;
+    }
+
+    /**
+     * Release one batch of reservations that expired before now.
+     *
+     * @return number of reservations released; fewer than batchSize means the backlog is drained
+     */
+    public int execute(int batchSize) {
+        return release(reservationRepository.claimExpiredReservations(Instant.now(), batchSize));
+    }
+
+    /**
+     * Release the given reservations if they are still active and past their expiry time.
+     *
+     * @return number of reservations actually released
+     */
+    public int releaseDue(List<UUID> reservationIds) {
+        return release(reservationRepository.claimExpiredReservations(reservationIds, Instant.now()));
+    }
+
+    private int release(List<StockReservation> expired) {
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        Instant releasedAt = Instant.now();
+        Map<InventoryKey, Quantity> releasedQuantities = new HashMap<>();
+        List<StockReservationReleasedEvent> events = expired.stream()
+            .map(reservation -> {
+                releasedQuantities.merge(
+                    new InventoryKey(reservation.getStoreId(), reservation.getProductSku()),
+                    reservation.getQuantity(),
+                    Quantity::add);
+
+                return new StockReservationReleasedEvent(
+                    reservation.getStoreId(),
+                    reservation.getProductSku().getValue(),
+                    reservation.getQuantity().getValue(),
+                    reservation.getReservationId(),
+                    EXPIRED_REASON);
+            })
+            .toList();
+
+        inventoryRepository.releaseReservedQuantities(releasedQuantities);
+        eventOutbox.append(events);
+
+        for (StockReservation reservation : expired) {
+            inventoryMetrics.recordStockRelease(reservation.getStoreId().toString(), EXPIRED_REASON);
+            inventoryMetrics.recordReservationExpiryLag(Duration.between(reservation.getExpiresAt(), releasedAt));
+        }
+
+        return expired.size();
+    }
+}
@@ -1,24 +1,41 @@
 package com.enterprise.inventory.application.usecase;
 
 import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.InventoryKey;
 import com.enterprise.inventory.domain.model.StockReservation;
 import com.enterprise.inventory.domain.repository.InventoryRepository;
 import com.enterprise.inventory.domain.repository.StockReservationRepository;
+import com.enterprise.inventory.domain.service.ReservationExpiryScheduler;
 import com.enterprise.shared.common.ProductSku;
 import com.enterprise.shared.common.Quantity;
 import com.enterprise.shared.observability.DistributedTracing;
 import com.enterprise.shared.observability.InventoryMetrics;
+import com.enterprise.shared.observability.LatencyBreakdown;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.opentelemetry.api.trace.Span;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Use Case for reserving stock with distributed consistency guarantees.
  * Implements Circuit Breaker and Retry patterns for resilience.
+ * Each stage of a reservation is timed into the latency breakdown, per store.
  */
 @Service
 @Transactional
@@ -28,46 +45,89 @@ public class ReserveStockUseCase {
     private final StockReservationRepository reservationRepository;
     private final DistributedTracing distributedTracing;
     private final InventoryMetrics inventoryMetrics;
+    private final ReservationMode reservationMode;
+    private final ObjectProvider<ReservationExpiryScheduler> expiryScheduler;
+    private final StageTimings stages;
+    private final StageTimings batchStages;
+    private final LatencyBreakdown.Stage conditionalWriteStage;
 
     public ReserveStockUseCase(InventoryRepository inventoryRepository,
                               StockReservationRepository reservationRepository,
                               DistributedTracing distributedTracing,
-                              InventoryMetrics inventoryMetrics) {
+                              InventoryMetrics inventoryMetrics,
+                              LatencyBreakdown latencyBreakdown,
+                              @Value("${inventory.reservation.mode:optimistic}") ReservationMode reservationMode,
+                              ObjectProvider<ReservationExpiryScheduler> expiryScheduler) {
         this.inventoryRepository = inventoryRepository;
         this.reservationRepository = reservationRepository;
         this.distributedTracing = distributedTracing;
         this.inventoryMetrics = inventoryMetrics;
+        this.reservationMode = reservationMode;
+        this.expiryScheduler = expiryScheduler;
+        this.stages = new StageTimings(latencyBreakdown, "reserve");
+        this.batchStages = new StageTimings(latencyBreakdown, "reserve-batch");
+        this.conditionalWriteStage = latencyBreakdown.stage("reserve", "conditional-write");
     }
 
     @CircuitBreaker(name = "stock-reservation", fallbackMethod = "fallbackReserveStock")
     @Retry(name = "stock-reservation")
     public ReservationResult execute(ReserveStockCommand command) {
-        return distributedTracing.executeTraced("reserve-stock", span -> {
+        return distributedTracing.joinTraced("reserve-stock", span -> {
             addTraceAttributes(span, command);
 
             var timerSample = inventoryMetrics.startStockReservationTimer();
 
             try {
-                // Find inventory with optimistic locking
-                Inventory inventory = findInventoryWithLock(command.storeId(), command.productSku());
-
-                // Reserve stock - this will fire domain events
-                StockReservation reservation = inventory.reserveStock(
-                    command.quantity(),
-                    command.reservationId(),
-                    command.reason()
-                );
+                span.setAttribute("reservation.mode", reservationMode.name());
 
-                // Persist changes
-                inventoryRepository.save(inventory);
-                reservationRepository.save(reservation);
+                Inventory inventory;
+                StockReservation reservation;
+                UUID storeId = command.storeId();
+                long mark = System.nanoTime();
+
+                if (reservationMode == ReservationMode.CONDITIONAL_UPDATE
+                        || inventoryRepository.isHotKey(command.storeId(), command.productSku())) {
+                    // Single guarded UPDATE + INSERT round trip, no read-modify-write;
+                    // always used for hot rows, whose stock is split across buckets
+                    reservation = Inventory.prepareReservation(
+                        command.storeId(),
+                        command.productSku(),
+                        command.quantity(),
+                        command.reservationId(),
+                        command.reason()
+                    );
+                    mark = stages.mutation.record(storeId, mark);
+                    inventory = reserveConditionally(reservation);
+                    conditionalWriteStage.record(storeId, mark);
+                } else {
+                    // Find inventory with optimistic locking
+                    inventory = findInventoryWithLock(command.storeId(), command.productSku());
+                    mark = stages.lookup.record(storeId, mark);
+
+                    // Reserve stock - this will fire domain events
+                    reservation = inventory.reserveStock(
+                        command.quantity(),
+                        command.reservationId(),
+                        command.reason()
+                    );
+                    mark = stages.mutation.record(storeId, mark);
+
+                    // Persist changes
+                    inventoryRepository.save(inventory);
+                    mark = stages.inventorySave.record(storeId, mark);
+                    reservationRepository.save(reservation);
+                    stages.reservationSave.record(storeId, mark);
+                }
+
+                scheduleExpiryAfterCommit(List.of(reservation));
+                stages.timeCommit(storeId);
 
                 // Record metrics
-                inventoryMetrics.recordStockReservation(command.storeId().toString());
-                inventoryMetrics.recordStockReservationTime(timerSample, command.storeId().toString());
+                inventoryMetrics.recordStockReservation(command.storeId());
+                inventoryMetrics.recordStockReservationTime(timerSample, command.storeId());
 
                 span.setAttribute("reservation.success", true);
-                span.setAttribute("reservation.id", command.reservationId().toString());
+                distributedTracing.addSpanAttribute(span, "reservation.id", () -> command.reservationId().toString());
 
                 return new ReservationResult(
                     reservation.getReservationId(),
@@ -81,7 +141,104 @@ public class ReserveStockUseCase {
                 span.setAttribute("reservation.success", false);
                 span.setAttribute("reservation.error", e.getMessage());
 
-                inventoryMetrics.recordStockReservationTime(timerSample, command.storeId().toString());
+                inventoryMetrics.recordStockReservationTime(timerSample, command.storeId());
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Reserve every line of a cart in one transaction, all or nothing.
+     * Rows are locked in (store, sku) order with a single query, the domain rules run per
+     * line, and inventories and reservations are written back as JDBC batches. If any line
+     * fails, the transaction is rolled back and every line reports its outcome.
+     */
+    @CircuitBreaker(name = "stock-reservation", fallbackMethod = "fallbackReserveStockBatch")
+    @Retry(name = "stock-reservation")
+    public BatchReservationResult executeBatch(BatchReserveStockCommand command) {
+        return distributedTracing.joinTraced("reserve-stock-batch", span -> {
+            span.setAttribute("batch.lines", command.lines().size());
+
+            var timerSample = inventoryMetrics.startStockReservationTimer();
+            UUID metricsStoreId = command.lines().get(0).storeId();
+
+            try {
+                List<ReserveStockLine> lines = command.lines();
+                Integer[] order = new Integer[lines.size()];
+                Arrays.setAll(order, i -> i);
+                Arrays.sort(order, Comparator.comparing((Integer i) -> lines.get(i).key()));
+
+                long mark = System.nanoTime();
+                Map<InventoryKey, Inventory> lockedInventories = new HashMap<>();
+                for (Inventory inventory : inventoryRepository.findAllForUpdate(
+                        Arrays.stream(order).map(i -> lines.get(i).key()).toList())) {
+                    lockedInventories.put(new InventoryKey(inventory.getStoreId(), inventory.getProductSku()), inventory);
+                }
+
+                mark = batchStages.lookup.record(metricsStoreId, mark);
+
+                LineResult[] results = new LineResult[lines.size()];
+                List<StockReservation> reservations = new ArrayList<>(lines.size());
+                boolean allReserved = true;
+
+                for (int index : order) {
+                    ReserveStockLine line = lines.get(index);
+                    Inventory inventory = lockedInventories.get(line.key());
+
+                    if (inventory == null) {
+                        allReserved = false;
+                        results[index] = LineResult.failed(line, String.format(
+                            "Inventory not found for store %s and product %s",
+                            line.storeId(), line.productSku().getValue()));
+                        continue;
+                    }
+
+                    try {
+                        reservations.add(inventory.reserveStock(line.quantity(), line.reservationId(), command.reason()));
+                        results[index] = new LineResult(line.storeId(), line.productSku().getValue(),
+                            line.reservationId(), true, "Stock reserved successfully", inventory.getAvailableQuantity());
+                    } catch (RuntimeException e) {
+                        allReserved = false;
+                        results[index] = LineResult.failed(line, e.getMessage());
+                    }
+                }
+
+                mark = batchStages.mutation.record(metricsStoreId, mark);
+
+                if (!allReserved) {
+                    TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                    span.setAttribute("reservation.success", false);
+                    inventoryMetrics.recordStockReservationTime(timerSample, metricsStoreId);
+
+                    return new BatchReservationResult(false,
+                        "Cart reservation rolled back: one or more lines could not be reserved",
+                        Arrays.stream(results).map(LineResult::rolledBack).toList());
+                }
+
+                // Persist changes
+                inventoryRepository.saveAll(new ArrayList<>(lockedInventories.values()));
+                mark = batchStages.inventorySave.record(metricsStoreId, mark);
+                reservationRepository.saveAll(reservations);
+                batchStages.reservationSave.record(metricsStoreId, mark);
+                scheduleExpiryAfterCommit(reservations);
+                batchStages.timeCommit(metricsStoreId);
+
+                // Record metrics
+                for (ReserveStockLine line : lines) {
+                    inventoryMetrics.recordStockReservation(line.storeId());
+                }
+                inventoryMetrics.recordStockReservationTime(timerSample, metricsStoreId);
+
+                span.setAttribute("reservation.success", true);
+
+                return new BatchReservationResult(true, "Cart reserved successfully", Arrays.asList(results));
+
+            } catch (Exception e) {
+                span.recordException(e);
+                span.setAttribute("reservation.success", false);
+                span.setAttribute("reservation.error", e.getMessage());
+
+                inventoryMetrics.recordStockReservationTime(timerSample, metricsStoreId);
                 throw e;
             }
         });
@@ -94,7 +251,51 @@ public class ReserveStockUseCase {
                              storeId, productSku.getValue())));
     }
 
+    /**
+     * Apply the reservation through the guarded update. When no row is updated, the current
+     * state is read once to report the precise failure using the domain invariants.
+     */
+    private Inventory reserveConditionally(StockReservation reservation) {
+        Optional<Inventory> updated = inventoryRepository.reserveStockConditionally(reservation);
+        if (updated.isPresent()) {
+            return updated.get();
+        }
+
+        Inventory current = findInventoryWithLock(reservation.getStoreId(), reservation.getProductSku());
+        current.ensureCanReserve(reservation.getQuantity());
+
+        // Stock was replenished between the guarded update and the read; let @Retry re-attempt
+        throw new ConcurrencyFailureException(
+            "Concurrent stock change detected for reservation " + reservation.getReservationId());
+    }
+
+    /**
+     * Hand the new reservations to the expiry scheduler once they are durable,
+     * so a rolled-back reservation is never released.
+     */
+    private void scheduleExpiryAfterCommit(List<StockReservation> reservations) {
+        ReservationExpiryScheduler scheduler = expiryScheduler.getIfAvailable();
+        if (scheduler == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reservations.forEach(scheduler::schedule);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reservations.forEach(scheduler::schedule);
+            }
+        });
+    }
+
     private void addTraceAttributes(Span span, ReserveStockCommand command) {
+        if (!span.isRecording()) {
+            return;
+        }
         span.setAttribute("store.id", command.storeId().toString());
         span.setAttribute("product.sku", command.productSku().getValue());
         span.setAttribute("quantity.requested", command.quantity().getValue());
@@ -116,6 +317,32 @@ public class ReserveStockUseCase {
         );
     }
 
+    // Fallback method for Circuit Breaker
+    public BatchReservationResult fallbackReserveStockBatch(BatchReserveStockCommand command, Exception ex) {
+        inventoryMetrics.recordSyncFailure(
+            command.lines().get(0).storeId().toString(),
+            "circuit-breaker-open"
+        );
+
+        return new BatchReservationResult(
+            false,
+            "Service temporarily unavailable. Please try again later.",
+            command.lines().stream()
+                .map(line -> LineResult.failed(line, "Service temporarily unavailable"))
+                .toList()
+        );
+    }
+
+    /**
+     * Strategy used to apply a reservation against the inventory row.
+     */
+    public enum ReservationMode {
+        /** Read the aggregate, mutate it in memory and save with optimistic locking. */
+        OPTIMISTIC,
+        /** Apply a single guarded UPDATE and insert the reservation in the same statement. */
+        CONDITIONAL_UPDATE
+    }
+
     public record ReserveStockCommand(
         UUID storeId,
         ProductSku productSku,
@@ -124,6 +351,46 @@ public class ReserveStockUseCase {
         String reason
     ) {}
 
+    public record ReserveStockLine(
+        UUID storeId,
+        ProductSku productSku,
+        Quantity quantity,
+        UUID reservationId
+    ) {
+        InventoryKey key() {
+            return new InventoryKey(storeId, productSku);
+        }
+    }
+
+    public record BatchReserveStockCommand(
+        List<ReserveStockLine> lines,
+        String reason
+    ) {}
+
+    public record LineResult(
+        UUID storeId,
+        String productSku,
+        UUID reservationId,
+        boolean success,
+        String message,
+        Quantity remainingStock
+    ) {
+        static LineResult failed(ReserveStockLine line, String message) {
+            return new LineResult(line.storeId(), line.productSku().getValue(), null, false, message, Quantity.zero());
+        }
+
+        LineResult rolledBack() {
+            return success ? new LineResult(storeId, productSku, null, false,
+                "Not reserved: cart reservation rolled back", Quantity.zero()) : this;
+        }
+    }
+
+    public record BatchReservationResult(
+        boolean success,
+        String message,
+        List<LineResult> lines
+    ) {}
+
     public record ReservationResult(
         UUID reservationId,
         boolean success,
@@ -0,0 +1,65 @@
+package com.enterprise.inventory.application.usecase;
+
+import com.enterprise.shared.observability.LatencyBreakdown;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * The latency breakdown stages shared by the reserve and commit use cases.
+ */
+final class StageTimings {
+
+    final LatencyBreakdown.Stage lookup;
+    final LatencyBreakdown.Stage mutation;
+    final LatencyBreakdown.Stage inventorySave;
+    final LatencyBreakdown.Stage reservationSave;
+    final LatencyBreakdown.Stage commit;
+    final LatencyBreakdown.Stage afterCommit;
+
+    StageTimings(LatencyBreakdown latencyBreakdown, String operation) {
+        this.lookup = latencyBreakdown.stage(operation, "lookup");
+        this.mutation = latencyBreakdown.stage(operation, "mutation");
+        this.inventorySave = latencyBreakdown.stage(operation, "inventory-save");
+        this.reservationSave = latencyBreakdown.stage(operation, "reservation-save");
+        this.commit = latencyBreakdown.stage(operation, "commit");
+        this.afterCommit = latencyBreakdown.stage(operation, "after-commit");
+    }
+
+    /**
+     * Time the commit itself (flush and database commit), then the after-commit work queued by
+     * the repositories and the use case, such as cache refreshes and expiry scheduling.
+     */
+    void timeCommit(UUID storeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        long[] mark = new long[1];
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                mark[0] = System.nanoTime();
+            }
+
+            @Override
+            public void afterCommit() {
+                mark[0] = commit.record(storeId, mark[0]);
+            }
+        });
+        // Registered last at the lowest precedence, so it runs after every other afterCommit
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                afterCommit.record(storeId, mark[0]);
+            }
+        });
+    }
+}
@@ -79,6 +79,39 @@ public class Inventory {
         return reservation;
     }
 
+    /**
+     * Build a validated reservation for the conditional-update path, where the
+     * availability check and quantity transfer are applied by the store in one statement.
+     */
+    public static StockReservation prepareReservation(UUID storeId, ProductSku productSku, Quantity quantity,
+                                                      UUID reservationId, String reason) {
+        if (quantity.isZero()) {
+            throw new IllegalArgumentException("Cannot reserve zero quantity");
+        }
+
+        return new StockReservation(reservationId, storeId, productSku, quantity, reason);
+    }
+
+    /**
+     * Record a reservation whose quantities were already moved by a guarded update.
+     */
+    public void registerReservation(StockReservation reservation) {
+        addDomainEvent(new com.enterprise.shared.domain.events.StockReservedEvent(
+            storeId, productSku.getValue(), reservation.getQuantity().getValue(),
+            reservation.getReservationId(), reservation.getReason()));
+    }
+
+    /**
+     * Fail with an insufficient stock error when the quantity cannot be reserved.
+     */
+    public void ensureCanReserve(Quantity quantity) {
+        if (!canReserve(quantity)) {
+            throw new InsufficientStockException(
+                String.format("Insufficient stock. Available: %s, Requested: %s",
+                             availableQuantity.getValue(), quantity.getValue()));
+        }
+    }
+
     /**
      * Commit reserved stock (complete the transaction).
      */
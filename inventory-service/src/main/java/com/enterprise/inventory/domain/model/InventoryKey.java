@@ -0,0 +1,31 @@
+package com.enterprise.inventory.domain.model;
+
+import com.enterprise.shared.common.ProductSku;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Natural key of an inventory record: one row per store and product.
+ * Ordered by store then SKU the way Postgres orders (store_id, product_sku COLLATE "C"), so
+ * multi-row operations ordered here and ones ordered in SQL lock rows in the same sequence.
+ */
+public record InventoryKey(UUID storeId, ProductSku productSku) implements Comparable<InventoryKey> {
+
+    private static final Comparator<InventoryKey> ORDER = Comparator
+        .comparing(InventoryKey::storeId, InventoryKey::compareUuids)
+        .thenComparing(key -> key.productSku().getValue());
+
+    @Override
+    public int compareTo(InventoryKey other) {
+        return ORDER.compare(this, other);
+    }
+
+    /**
+     * Postgres compares uuid values byte by byte, unsigned; UUID.compareTo compares signed longs.
+     */
+    private static int compareUuids(UUID left, UUID right) {
+        int high = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,14 @@
+package com.enterprise.inventory.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) paginated query.
+ * The next page starts strictly after nextKey; a null nextKey means this was the last page.
+ */
+public record KeysetPage<T, K>(List<T> items, K nextKey) {
+
+    public boolean hasNext() {
+        return nextKey != null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.enterprise.inventory.domain.model;
+
+/**
+ * Stock level classification of an inventory row by its available quantity.
+ * Bounds match the stock_level column of the inventory_summary view.
+ */
+public enum StockLevelBand {
+    OUT_OF_STOCK,
+    LOW_STOCK,
+    MEDIUM_STOCK,
+    HIGH_STOCK;
+
+    public static final int LOW_STOCK_MAX = 5;
+    public static final int MEDIUM_STOCK_MAX = 20;
+
+    public static StockLevelBand of(int availableQuantity) {
+        if (availableQuantity == 0) {
+            return OUT_OF_STOCK;
+        }
+        if (availableQuantity <= LOW_STOCK_MAX) {
+            return LOW_STOCK;
+        }
+        return availableQuantity <= MEDIUM_STOCK_MAX ? MEDIUM_STOCK : HIGH_STOCK;
+    }
+}
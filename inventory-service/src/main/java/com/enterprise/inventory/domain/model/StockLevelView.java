@@ -0,0 +1,30 @@
+package com.enterprise.inventory.domain.model;
+
+import com.enterprise.shared.common.ProductSku;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of an inventory row for list queries.
+ * Carries only the stock figures, so listings never build the Inventory aggregate.
+ */
+public record StockLevelView(
+    UUID storeId,
+    ProductSku productSku,
+    int availableQuantity,
+    int reservedQuantity,
+    int committedQuantity,
+    long version
+) {
+
+    public static StockLevelView of(Inventory inventory) {
+        return new StockLevelView(
+            inventory.getStoreId(),
+            inventory.getProductSku(),
+            inventory.getAvailableQuantity().getValue(),
+            inventory.getReservedQuantity().getValue(),
+            inventory.getCommittedQuantity().getValue(),
+            inventory.getVersion()
+        );
+    }
+}
@@ -32,6 +32,19 @@ public class StockReservation {
         this.status = ReservationStatus.ACTIVE;
     }
 
+    // Constructor for reconstituting from persistence
+    public StockReservation(UUID reservationId, UUID storeId, ProductSku productSku, Quantity quantity,
+                           String reason, Instant createdAt, Instant expiresAt, ReservationStatus status) {
+        this.reservationId = reservationId;
+        this.storeId = storeId;
+        this.productSku = productSku;
+        this.quantity = quantity;
+        this.reason = reason;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.status = status;
+    }
+
     public boolean isExpired() {
         return Instant.now().isAfter(expiresAt);
     }
@@ -50,6 +63,13 @@ public class StockReservation {
         this.status = ReservationStatus.RELEASED;
     }
 
+    public void markAsExpired() {
+        if (status != ReservationStatus.ACTIVE) {
+            throw new IllegalStateException("Can only expire active reservations");
+        }
+        this.status = ReservationStatus.EXPIRED;
+    }
+
     // Getters
     public UUID getReservationId() { return reservationId; }
     public UUID getStoreId() { return storeId; }
@@ -0,0 +1,24 @@
+package com.enterprise.inventory.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Store-level totals over all inventory rows of a store, with the number of rows in each
+ * stock level band.
+ */
+public record StoreInventorySummary(
+    UUID storeId,
+    long items,
+    long availableQuantity,
+    long reservedQuantity,
+    long committedQuantity,
+    long outOfStockItems,
+    long lowStockItems,
+    long mediumStockItems,
+    long highStockItems
+) {
+
+    public long totalQuantity() {
+        return availableQuantity + reservedQuantity + committedQuantity;
+    }
+}
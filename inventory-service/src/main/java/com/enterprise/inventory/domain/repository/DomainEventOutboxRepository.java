@@ -0,0 +1,23 @@
+package com.enterprise.inventory.domain.repository;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.shared.domain.events.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Repository interface for the transactional outbox of domain events.
+ * Events are stored in the same transaction as the aggregate change and published asynchronously.
+ */
+public interface DomainEventOutboxRepository {
+
+    /**
+     * Append the pending domain events of the aggregate to the outbox.
+     */
+    void append(Inventory inventory);
+
+    /**
+     * Append events that were produced without loading their aggregates.
+     */
+    void append(List<? extends DomainEvent> events);
+}
@@ -0,0 +1,22 @@
+package com.enterprise.inventory.domain.repository;
+
+import com.enterprise.inventory.domain.model.Inventory;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Bulk read access for exporting a store's inventory.
+ * Rows are handed to the consumer one at a time as they are read and are never collected,
+ * so memory use does not grow with the size of the store.
+ */
+public interface InventoryExportRepository {
+
+    /**
+     * Stream every inventory row of a store, including stock held in hot-key buckets.
+     * With updatedSince set, only rows changed at or after that instant are returned, oldest
+     * change first; otherwise rows come in SKU order. Must run inside a transaction.
+     */
+    void streamByStoreId(UUID storeId, Instant updatedSince, Consumer<Inventory> consumer);
+}
@@ -0,0 +1,43 @@
+package com.enterprise.inventory.domain.repository;
+
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.KeysetPage;
+import com.enterprise.inventory.domain.model.StockLevelView;
+import com.enterprise.shared.common.ProductSku;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Paginated read-only listings of inventory rows.
+ * Pages seek past the last key of the previous page instead of skipping rows, so a deep page
+ * costs the same as the first. Stock held in hot-key buckets is included in the figures.
+ */
+public interface InventoryListingRepository {
+
+    /**
+     * A store's inventory in SKU order, starting after afterSku (null for the first page).
+     */
+    KeysetPage<StockLevelView, ProductSku> findByStoreId(UUID storeId, ProductSku afterSku, int limit);
+
+    /**
+     * A product's inventory across stores in store order, starting after afterStoreId (null for the first page).
+     */
+    KeysetPage<StockLevelView, UUID> findByProductSku(ProductSku productSku, UUID afterStoreId, int limit);
+
+    /**
+     * A store's items with at most threshold available, lowest stock first (null after for the first page).
+     */
+    KeysetPage<StockLevelView, LowStockKey> findLowStockItems(UUID storeId, int threshold, LowStockKey after, int limit);
+
+    /**
+     * Current levels of the given rows, in one query. Keys without a row are absent from the result.
+     */
+    List<StockLevelView> findByKeys(Collection<InventoryKey> keys);
+
+    /**
+     * Seek position of the low-stock listing: the row's own available quantity, then the SKU.
+     */
+    record LowStockKey(int availableQuantity, ProductSku productSku) {}
+}
@@ -1,9 +1,13 @@
 package com.enterprise.inventory.domain.repository;
 
 import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockReservation;
 import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,9 +19,17 @@ public interface InventoryRepository {
 
     /**
      * Find inventory by store and product with optimistic locking.
+     * For a hot row the result holds all of its reserved stock but only the available stock not
+     * parked in buckets; it is meant for writes that move reserved stock, such as commits.
      */
     Optional<Inventory> findByStoreIdAndProductSku(UUID storeId, ProductSku productSku);
 
+    /**
+     * Read-only lookup of current stock levels. May be served from a cache and lag the latest
+     * write slightly, so it must not be used to validate reservations or commits.
+     */
+    Optional<Inventory> findStockLevel(UUID storeId, ProductSku productSku);
+
     /**
      * Find all inventory for a specific store.
      */
@@ -47,4 +59,34 @@ public interface InventoryRepository {
      * Find inventory by ID with pessimistic locking for critical operations.
      */
     Optional<Inventory> findByIdWithLock(UUID inventoryId);
+
+    /**
+     * Reserve stock with a single guarded update and insert the reservation in the same round trip.
+     * The reservation event is recorded with the change. Returns empty when the row does not
+     * exist or does not have enough available stock.
+     */
+    Optional<Inventory> reserveStockConditionally(StockReservation reservation);
+
+    /**
+     * Lock the inventory rows for the given keys in key order, in a single query.
+     * Keys without a row are absent from the result.
+     */
+    List<Inventory> findAllForUpdate(List<InventoryKey> keys);
+
+    /**
+     * Save several inventories in one batch with optimistic concurrency control.
+     */
+    void saveAll(List<Inventory> inventories);
+
+    /**
+     * Whether the row is in hot-key mode, with its stock split across buckets. Reservations
+     * for hot rows must go through reserveStockConditionally.
+     */
+    boolean isHotKey(UUID storeId, ProductSku productSku);
+
+    /**
+     * Move released quantities from reserved back to available with one set-based update per
+     * inventory row, applied in key order.
+     */
+    void releaseReservedQuantities(Map<InventoryKey, Quantity> quantities);
 }
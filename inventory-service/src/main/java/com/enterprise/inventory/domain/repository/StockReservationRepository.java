@@ -29,11 +29,33 @@ public interface StockReservationRepository {
      */
     List<StockReservation> findExpiredReservations(Instant cutoffTime);
 
+    /**
+     * Atomically mark up to limit expired active reservations as EXPIRED and return them.
+     * Rows claimed by another sweeper are skipped rather than waited on.
+     */
+    List<StockReservation> claimExpiredReservations(Instant cutoffTime, int limit);
+
+    /**
+     * Atomically mark the given reservations as EXPIRED if they are still active and
+     * expired before cutoffTime, returning only those actually claimed.
+     */
+    List<StockReservation> claimExpiredReservations(List<UUID> reservationIds, Instant cutoffTime);
+
+    /**
+     * Find every active reservation, used to rebuild in-memory expiry schedules.
+     */
+    List<StockReservation> findAllActiveReservations();
+
     /**
      * Save reservation.
      */
     StockReservation save(StockReservation reservation);
 
+    /**
+     * Save several reservations in one batch.
+     */
+    void saveAll(List<StockReservation> reservations);
+
     /**
      * Delete reservation.
      */
@@ -0,0 +1,39 @@
+package com.enterprise.inventory.domain.repository;
+
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockLevelView;
+import com.enterprise.inventory.domain.model.StoreInventorySummary;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Incrementally maintained store summaries.
+ * Each row's latest known stock levels are kept alongside the store totals; applying a row
+ * replaces its previous contribution to the totals, so a summary never needs to be
+ * recomputed from all rows once it is complete.
+ */
+public interface StoreSummaryRepository {
+
+    /**
+     * The summary of a store, or empty when it has not been completed or is due for resync.
+     */
+    Optional<StoreInventorySummary> findByStoreId(UUID storeId);
+
+    /**
+     * Replace the contribution of each row with the given levels. Rows whose known version
+     * is newer than the given one are left alone, so replays and late writes are harmless.
+     */
+    void apply(Collection<StockLevelView> levels);
+
+    /**
+     * Remove a deleted row from its store's totals.
+     */
+    void remove(InventoryKey key);
+
+    /**
+     * Mark the store's summary complete after every row has been applied.
+     */
+    void markComplete(UUID storeId);
+}
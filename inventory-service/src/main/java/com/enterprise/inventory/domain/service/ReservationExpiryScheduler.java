@@ -0,0 +1,23 @@
+package com.enterprise.inventory.domain.service;
+
+import com.enterprise.inventory.domain.model.StockReservation;
+
+import java.util.UUID;
+
+/**
+ * Port for tracking when active reservations expire.
+ * Implementations release the reserved stock once the expiry time has passed,
+ * unless the reservation was cancelled first.
+ */
+public interface ReservationExpiryScheduler {
+
+    /**
+     * Track the reservation until its expiry time.
+     */
+    void schedule(StockReservation reservation);
+
+    /**
+     * Stop tracking a reservation that was committed or released.
+     */
+    void cancel(UUID reservationId);
+}
@@ -0,0 +1,59 @@
+package com.enterprise.inventory.infrastructure.cache;
+
+import com.enterprise.shared.observability.CacheWindowStats;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/cache-stats: hits, misses, evictions and load times per cache segment,
+ * over the 1m/5m/15m sliding windows and since startup.
+ */
+@Component
+@Endpoint(id = "cache-stats")
+public class CacheStatisticsEndpoint {
+
+    private final InventoryMetrics inventoryMetrics;
+
+    public CacheStatisticsEndpoint(InventoryMetrics inventoryMetrics) {
+        this.inventoryMetrics = inventoryMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> cacheStats() {
+        List<Map<String, Object>> segments = new ArrayList<>();
+        inventoryMetrics.getCacheStats().forEach((segment, stats) -> {
+            Map<String, Object> windows = new LinkedHashMap<>();
+            for (Duration window : InventoryMetrics.CACHE_WINDOWS) {
+                windows.put(window.toMinutes() + "m", report(stats.window(window)));
+            }
+            windows.put("total", report(stats.total()));
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("keyPrefix", segment.keyPrefix());
+            entry.put("level", segment.level());
+            entry.put("windows", windows);
+            segments.add(entry);
+        });
+        return Map.of("segments", segments);
+    }
+
+    private static Map<String, Object> report(CacheWindowStats.Snapshot snapshot) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", snapshot.requests());
+        report.put("hits", snapshot.hits());
+        report.put("misses", snapshot.misses());
+        report.put("hitRatio", snapshot.hitRatio());
+        report.put("evictions", snapshot.evictions());
+        report.put("loads", snapshot.loads());
+        report.put("meanLoadMillis", snapshot.meanLoadMillis());
+        return report;
+    }
+}
@@ -0,0 +1,204 @@
+package com.enterprise.inventory.infrastructure.cache;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.domain.repository.InventoryRepository;
+import com.enterprise.inventory.infrastructure.cache.InventoryCacheService.InventoryCacheData;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through/write-through cache decorator for InventoryRepository.
+ * Only findStockLevel is served from the cache; every lookup used by reservations and
+ * commits still goes to the delegate so writes are always validated against the database.
+ * Writes refresh the cache once the surrounding transaction commits, so a rolled-back
+ * change never reaches it. Writes to hot rows drop the entry instead: part of their stock is in
+ * buckets the written state does not include, and bucket writes leave the row version unchanged,
+ * so that state could neither be cached nor ordered against other writes.
+ */
+public class CachingInventoryRepositoryAdapter implements InventoryRepository {
+
+    private final InventoryRepository delegate;
+    private final InventoryCacheService cacheService;
+
+    public CachingInventoryRepositoryAdapter(InventoryRepository delegate, InventoryCacheService cacheService) {
+        this.delegate = delegate;
+        this.cacheService = cacheService;
+    }
+
+    @Override
+    public Optional<Inventory> findStockLevel(UUID storeId, ProductSku productSku) {
+        Optional<Inventory> cached = cacheService.getInventoryFromCache(storeId, productSku)
+            .filter(CachingInventoryRepositoryAdapter::isComplete)
+            .map(data -> toDomain(storeId, productSku, data));
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        long loadStart = System.nanoTime();
+        Optional<Inventory> loaded = delegate.findStockLevel(storeId, productSku);
+        cacheService.recordLoad(System.nanoTime() - loadStart);
+        // Version-checked, so a slow read can never replace a newer entry
+        loaded.ifPresent(inventory -> cacheService.cacheInventory(storeId, productSku, toCacheData(inventory)));
+        return loaded;
+    }
+
+    @Override
+    public Optional<Inventory> findByStoreIdAndProductSku(UUID storeId, ProductSku productSku) {
+        return delegate.findByStoreIdAndProductSku(storeId, productSku);
+    }
+
+    @Override
+    public List<Inventory> findByStoreId(UUID storeId) {
+        return delegate.findByStoreId(storeId);
+    }
+
+    @Override
+    public List<Inventory> findByProductSku(ProductSku productSku) {
+        return delegate.findByProductSku(productSku);
+    }
+
+    @Override
+    public Inventory save(Inventory inventory) {
+        Inventory saved = delegate.save(inventory);
+        // The argument carries the post-save version; the returned copy may predate the flush
+        refreshAfterCommit(List.of(inventory));
+        return saved;
+    }
+
+    @Override
+    public void delete(Inventory inventory) {
+        delegate.delete(inventory);
+        invalidateAfterCommit(List.of(new InventoryKey(inventory.getStoreId(), inventory.getProductSku())));
+    }
+
+    @Override
+    public List<Inventory> findLowStockItems(UUID storeId, int threshold) {
+        return delegate.findLowStockItems(storeId, threshold);
+    }
+
+    @Override
+    public Optional<Inventory> findByIdWithLock(UUID inventoryId) {
+        return delegate.findByIdWithLock(inventoryId);
+    }
+
+    @Override
+    public Optional<Inventory> reserveStockConditionally(StockReservation reservation) {
+        Optional<Inventory> updated = delegate.reserveStockConditionally(reservation);
+        updated.ifPresent(inventory -> refreshAfterCommit(List.of(inventory)));
+        return updated;
+    }
+
+    @Override
+    public List<Inventory> findAllForUpdate(List<InventoryKey> keys) {
+        return delegate.findAllForUpdate(keys);
+    }
+
+    @Override
+    public void saveAll(List<Inventory> inventories) {
+        delegate.saveAll(inventories);
+        refreshAfterCommit(inventories);
+    }
+
+    @Override
+    public void releaseReservedQuantities(Map<InventoryKey, Quantity> quantities) {
+        delegate.releaseReservedQuantities(quantities);
+        // The new row state is not read back, so drop the entries instead of refreshing them
+        invalidateAfterCommit(List.copyOf(quantities.keySet()));
+    }
+
+    @Override
+    public boolean isHotKey(UUID storeId, ProductSku productSku) {
+        return delegate.isHotKey(storeId, productSku);
+    }
+
+    private void refreshAfterCommit(List<Inventory> inventories) {
+        List<CacheEntry> entries = new ArrayList<>(inventories.size());
+        List<InventoryKey> hotKeys = new ArrayList<>();
+        for (Inventory inventory : inventories) {
+            if (delegate.isHotKey(inventory.getStoreId(), inventory.getProductSku())) {
+                hotKeys.add(new InventoryKey(inventory.getStoreId(), inventory.getProductSku()));
+            } else {
+                entries.add(toCacheEntry(inventory));
+            }
+        }
+
+        if (!entries.isEmpty()) {
+            runAfterCommit(() -> entries.forEach(entry ->
+                cacheService.refreshInventory(entry.key().storeId(), entry.key().productSku(), entry.data())));
+        }
+        if (!hotKeys.isEmpty()) {
+            invalidateAfterCommit(hotKeys);
+        }
+    }
+
+    private void invalidateAfterCommit(List<InventoryKey> keys) {
+        runAfterCommit(() -> keys.forEach(key ->
+            cacheService.invalidateInventoryCache(key.storeId(), key.productSku())));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private CacheEntry toCacheEntry(Inventory inventory) {
+        return new CacheEntry(new InventoryKey(inventory.getStoreId(), inventory.getProductSku()), toCacheData(inventory));
+    }
+
+    private static InventoryCacheData toCacheData(Inventory inventory) {
+        return new InventoryCacheData(
+            inventory.getId(),
+            inventory.getAvailableQuantity().getValue(),
+            inventory.getReservedQuantity().getValue(),
+            inventory.getCommittedQuantity().getValue(),
+            inventory.getVersion(),
+            inventory.getLastUpdated().toEpochMilli()
+        );
+    }
+
+    /**
+     * Entries written before the cache carried the full aggregate are treated as misses.
+     */
+    private static boolean isComplete(InventoryCacheData data) {
+        return data.getInventoryId() != null
+            && data.getVersion() != null
+            && data.getAvailableQuantity() != null
+            && data.getReservedQuantity() != null
+            && data.getCommittedQuantity() != null;
+    }
+
+    private static Inventory toDomain(UUID storeId, ProductSku productSku, InventoryCacheData data) {
+        return new Inventory(
+            data.getInventoryId(),
+            storeId,
+            productSku,
+            Quantity.of(data.getAvailableQuantity()),
+            Quantity.of(data.getReservedQuantity()),
+            Quantity.of(data.getCommittedQuantity()),
+            Instant.ofEpochMilli(data.getLastUpdated()),
+            data.getVersion()
+        );
+    }
+
+    private record CacheEntry(InventoryKey key, InventoryCacheData data) {}
+}
@@ -1,37 +1,84 @@
 package com.enterprise.inventory.infrastructure.cache;
 
 import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.observability.CacheWindowStats;
 import com.enterprise.shared.observability.InventoryMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Redis-based cache implementation for inventory data.
+ * Two-level cache for inventory data: a bounded in-JVM near cache (L1) in front of Redis (L2).
  * Implements Cache-Aside pattern with TTL management.
+ *
+ * Invalidations are broadcast on a Redis pub/sub channel so every replica drops its L1 entry,
+ * and writes at both levels are version-checked so an older snapshot never replaces a newer one.
+ * Each level records its hits, misses and load times under the inventory: key prefix.
  */
 @Component
-public class InventoryCacheService {
+public class InventoryCacheService implements MessageListener {
 
     private static final String INVENTORY_KEY_PREFIX = "inventory:";
-    private static final String STORE_INVENTORY_PREFIX = "store:inventory:";
+    private static final String INVALIDATION_CHANNEL = "inventory:cache:invalidations";
     private static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
 
+    /**
+     * Writes the entry only if the cached one is not newer. Entries are JSON, so the stored
+     * version is read on the Redis side and the check costs no extra round trip.
+     */
+    private static final RedisScript<Long> SET_IF_NEWER_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        if current then
+            local ok, cached = pcall(cjson.decode, current)
+            if ok and type(cached) == 'table' and type(cached.version) == 'number'
+                    and cached.version > tonumber(ARGV[2]) then
+                return 0
+            end
+        end
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
-    private final InventoryMetrics inventoryMetrics;
+    private final CacheWindowStats nearCacheStats;
+    private final CacheWindowStats redisCacheStats;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final InventoryNearCache nearCache;
 
     public InventoryCacheService(RedisTemplate<String, Object> redisTemplate,
                                 ObjectMapper objectMapper,
-                                InventoryMetrics inventoryMetrics) {
+                                InventoryMetrics inventoryMetrics,
+                                RedisMessageListenerContainer listenerContainer,
+                                @Value("${inventory.cache.near.maximum-size:100000}") long nearCacheMaximumSize,
+                                @Value("${inventory.cache.near.ttl:30s}") Duration nearCacheTtl) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
-        this.inventoryMetrics = inventoryMetrics;
+        this.nearCacheStats = inventoryMetrics.cacheStats(INVENTORY_KEY_PREFIX, "l1");
+        this.redisCacheStats = inventoryMetrics.cacheStats(INVENTORY_KEY_PREFIX, "l2");
+        this.listenerContainer = listenerContainer;
+        this.nearCache = new InventoryNearCache(nearCacheMaximumSize, nearCacheTtl, nearCacheStats);
+    }
+
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
     }
 
     /**
@@ -40,8 +87,10 @@ public class InventoryCacheService {
     public void cacheInventory(UUID storeId, ProductSku productSku, InventoryCacheData data) {
         String key = buildInventoryKey(storeId, productSku);
 
+        nearCache.put(key, data);
+
         try {
-            redisTemplate.opsForValue().set(key, data, DEFAULT_TTL);
+            setIfNewer(key, data);
         } catch (Exception e) {
             // Cache failures should not break the application
             // Log and continue with database operations
@@ -49,48 +98,81 @@ public class InventoryCacheService {
     }
 
     /**
-     * Retrieve inventory from cache.
+     * Retrieve inventory from cache, trying the near cache before Redis.
      */
     public Optional<InventoryCacheData> getInventoryFromCache(UUID storeId, ProductSku productSku) {
         String key = buildInventoryKey(storeId, productSku);
 
+        Optional<InventoryCacheData> local = nearCache.get(key);
+        nearCacheStats.recordLookup(local.isPresent());
+        if (local.isPresent()) {
+            return local;
+        }
+
+        long loadStart = System.nanoTime();
         try {
             Object cached = redisTemplate.opsForValue().get(key);
             if (cached != null) {
-                updateCacheHitRate(true);
-                return Optional.of((InventoryCacheData) cached);
+                redisCacheStats.recordHit();
+                InventoryCacheData data = (InventoryCacheData) cached;
+                nearCache.put(key, data);
+                nearCacheStats.recordLoad(System.nanoTime() - loadStart);
+                return Optional.of(data);
             }
         } catch (Exception e) {
             // Cache failures should not break the application
         }
 
-        updateCacheHitRate(false);
+        redisCacheStats.recordMiss();
         return Optional.empty();
     }
 
     /**
-     * Invalidate cache entry when inventory changes.
+     * Record the time a caller spent loading an entry that missed both levels.
+     */
+    public void recordLoad(long nanos) {
+        redisCacheStats.recordLoad(nanos);
+    }
+
+    /**
+     * Invalidate cache entry when inventory changes, on this replica and every other one.
      */
     public void invalidateInventoryCache(UUID storeId, ProductSku productSku) {
         String key = buildInventoryKey(storeId, productSku);
 
+        nearCache.invalidate(key);
+
         try {
             redisTemplate.delete(key);
-            // Also invalidate store-level cache
-            redisTemplate.delete(buildStoreInventoryKey(storeId));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, key);
         } catch (Exception e) {
             // Cache failures should not break the application
         }
     }
 
     /**
-     * Cache store-level inventory summary.
+     * Evict near-cache entries invalidated by any replica, including this one.
      */
-    public void cacheStoreInventory(UUID storeId, Object inventoryData) {
-        String key = buildStoreInventoryKey(storeId);
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object key = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (key instanceof String inventoryKey) {
+            nearCache.invalidate(inventoryKey);
+        }
+    }
+
+    /**
+     * Write-through refresh after a committed change: Redis takes the new version if it is
+     * newer, and every replica drops its near-cache entry so the next read picks it up.
+     */
+    public void refreshInventory(UUID storeId, ProductSku productSku, InventoryCacheData data) {
+        String key = buildInventoryKey(storeId, productSku);
+
+        nearCache.invalidate(key);
 
         try {
-            redisTemplate.opsForValue().set(key, inventoryData, DEFAULT_TTL);
+            setIfNewer(key, data);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, key);
         } catch (Exception e) {
             // Cache failures should not break the application
         }
@@ -126,26 +208,25 @@ public class InventoryCacheService {
         return INVENTORY_KEY_PREFIX + storeId + ":" + productSku.getValue();
     }
 
-    private String buildStoreInventoryKey(UUID storeId) {
-        return STORE_INVENTORY_PREFIX + storeId;
-    }
+    @SuppressWarnings("unchecked")
+    private void setIfNewer(String key, InventoryCacheData data) {
+        byte[] value = ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(data);
+        long version = data.getVersion() != null ? data.getVersion() : 0L;
 
-    private void updateCacheHitRate(boolean hit) {
-        // This would need a more sophisticated implementation in production
-        // For now, just record the metric
-        if (hit) {
-            inventoryMetrics.updateCacheHitRate(0.95); // Example hit rate
-        } else {
-            inventoryMetrics.updateCacheHitRate(0.93); // Example miss rate
-        }
+        redisTemplate.execute(SET_IF_NEWER_SCRIPT, RedisSerializer.string(),
+            new GenericToStringSerializer<>(Long.class), List.of(key),
+            new String(value, StandardCharsets.UTF_8), String.valueOf(version),
+            String.valueOf(DEFAULT_TTL.toMillis()));
     }
 
     /**
      * Cache data structure for inventory information.
      */
     public static class InventoryCacheData {
+        private UUID inventoryId;
         private Integer availableQuantity;
         private Integer reservedQuantity;
+        private Integer committedQuantity;
         private Long version;
         private long lastUpdated;
 
@@ -159,13 +240,26 @@ public class InventoryCacheService {
             this.lastUpdated = lastUpdated;
         }
 
+        public InventoryCacheData(UUID inventoryId, Integer availableQuantity, Integer reservedQuantity,
+                                 Integer committedQuantity, Long version, long lastUpdated) {
+            this(availableQuantity, reservedQuantity, version, lastUpdated);
+            this.inventoryId = inventoryId;
+            this.committedQuantity = committedQuantity;
+        }
+
         // Getters and setters
+        public UUID getInventoryId() { return inventoryId; }
+        public void setInventoryId(UUID inventoryId) { this.inventoryId = inventoryId; }
+
         public Integer getAvailableQuantity() { return availableQuantity; }
         public void setAvailableQuantity(Integer availableQuantity) { this.availableQuantity = availableQuantity; }
 
         public Integer getReservedQuantity() { return reservedQuantity; }
         public void setReservedQuantity(Integer reservedQuantity) { this.reservedQuantity = reservedQuantity; }
 
+        public Integer getCommittedQuantity() { return committedQuantity; }
+        public void setCommittedQuantity(Integer committedQuantity) { this.committedQuantity = committedQuantity; }
+
         public Long getVersion() { return version; }
         public void setVersion(Long version) { this.version = version; }
 
@@ -0,0 +1,45 @@
+package com.enterprise.inventory.infrastructure.cache;
+
+import com.enterprise.inventory.infrastructure.cache.InventoryCacheService.InventoryCacheData;
+import com.enterprise.shared.observability.CacheWindowStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded in-JVM first-level cache for inventory entries.
+ * Entries are evicted by size and by age, and a write only replaces the cached entry
+ * when it carries a version at least as new, so a delayed write cannot resurrect stale data.
+ * Size and age evictions are counted in the supplied statistics; explicit invalidations are not.
+ */
+class InventoryNearCache {
+
+    private final Cache<String, InventoryCacheData> entries;
+
+    InventoryNearCache(long maximumSize, Duration timeToLive, CacheWindowStats stats) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .<String, InventoryCacheData>evictionListener((key, data, cause) -> stats.recordEviction())
+            .build();
+    }
+
+    Optional<InventoryCacheData> get(String key) {
+        return Optional.ofNullable(entries.getIfPresent(key));
+    }
+
+    void put(String key, InventoryCacheData data) {
+        entries.asMap().merge(key, data,
+            (current, candidate) -> versionOf(candidate) >= versionOf(current) ? candidate : current);
+    }
+
+    void invalidate(String key) {
+        entries.invalidate(key);
+    }
+
+    private static long versionOf(InventoryCacheData data) {
+        return data.getVersion() != null ? data.getVersion() : Long.MIN_VALUE;
+    }
+}
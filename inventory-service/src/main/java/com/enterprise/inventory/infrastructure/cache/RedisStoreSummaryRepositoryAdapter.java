@@ -0,0 +1,179 @@
+package com.enterprise.inventory.infrastructure.cache;
+
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockLevelBand;
+import com.enterprise.inventory.domain.model.StockLevelView;
+import com.enterprise.inventory.domain.model.StoreInventorySummary;
+import com.enterprise.inventory.domain.repository.StoreSummaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis implementation of StoreSummaryRepository, shared by every replica.
+ * Per store there is a hash of totals and band counts, a hash of the last applied levels of
+ * each row ("version:available:reserved:committed"), and a completion marker that expires
+ * after the resync interval so the next read re-applies all rows and heals any lost update.
+ * Every change is one script call, so the totals and the rows never disagree.
+ */
+@Component
+public class RedisStoreSummaryRepositoryAdapter implements StoreSummaryRepository {
+
+    private static final String SUMMARY_PREFIX = "store:summary:";
+
+    /**
+     * Subtracts the row's previous contribution and adds the new one, for each row given.
+     * ARGV: low-stock bound, medium-stock bound, then sku, version, available, reserved,
+     * committed per row.
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(bandFunction() + """
+        local applied = 0
+        for i = 3, #ARGV, 5 do
+            local sku = ARGV[i]
+            local version = tonumber(ARGV[i + 1])
+            local current = redis.call('HGET', KEYS[2], sku)
+            local stale = false
+            if current then
+                local v, a, r, c = string.match(current, '^(-?%d+):(-?%d+):(-?%d+):(-?%d+)$')
+                if tonumber(v) > version then
+                    stale = true
+                else
+                    contribute(tonumber(a), tonumber(r), tonumber(c), -1)
+                end
+            end
+            if not stale then
+                local a, r, c = tonumber(ARGV[i + 2]), tonumber(ARGV[i + 3]), tonumber(ARGV[i + 4])
+                contribute(a, r, c, 1)
+                redis.call('HSET', KEYS[2], sku, version .. ':' .. a .. ':' .. r .. ':' .. c)
+                applied = applied + 1
+            end
+        end
+        return applied
+        """, Long.class);
+
+    /**
+     * ARGV: low-stock bound, medium-stock bound, sku.
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(bandFunction() + """
+        local current = redis.call('HGET', KEYS[2], ARGV[3])
+        if not current then
+            return 0
+        end
+        local v, a, r, c = string.match(current, '^(-?%d+):(-?%d+):(-?%d+):(-?%d+)$')
+        contribute(tonumber(a), tonumber(r), tonumber(c), -1)
+        redis.call('HDEL', KEYS[2], ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration resyncInterval;
+
+    public RedisStoreSummaryRepositoryAdapter(StringRedisTemplate redisTemplate,
+                                              @Value("${inventory.summary.resync-interval:1h}") Duration resyncInterval) {
+        this.redisTemplate = redisTemplate;
+        this.resyncInterval = resyncInterval;
+    }
+
+    @Override
+    public Optional<StoreInventorySummary> findByStoreId(UUID storeId) {
+        String key = SUMMARY_PREFIX + storeId;
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key + ":complete"))) {
+            return Optional.empty();
+        }
+
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+        return Optional.of(new StoreInventorySummary(
+            storeId,
+            field(fields, "items"),
+            field(fields, "available"),
+            field(fields, "reserved"),
+            field(fields, "committed"),
+            field(fields, StockLevelBand.OUT_OF_STOCK.name()),
+            field(fields, StockLevelBand.LOW_STOCK.name()),
+            field(fields, StockLevelBand.MEDIUM_STOCK.name()),
+            field(fields, StockLevelBand.HIGH_STOCK.name())
+        ));
+    }
+
+    @Override
+    public void apply(Collection<StockLevelView> levels) {
+        Map<UUID, List<String>> argsByStore = new LinkedHashMap<>();
+        for (StockLevelView level : levels) {
+            List<String> args = argsByStore.computeIfAbsent(level.storeId(), id -> bandBounds());
+            args.add(level.productSku().getValue());
+            args.add(Long.toString(level.version()));
+            args.add(Integer.toString(level.availableQuantity()));
+            args.add(Integer.toString(level.reservedQuantity()));
+            args.add(Integer.toString(level.committedQuantity()));
+        }
+
+        argsByStore.forEach((storeId, args) ->
+            redisTemplate.execute(APPLY_SCRIPT, keys(storeId), args.toArray()));
+    }
+
+    @Override
+    public void remove(InventoryKey key) {
+        List<String> args = bandBounds();
+        args.add(key.productSku().getValue());
+        redisTemplate.execute(REMOVE_SCRIPT, keys(key.storeId()), args.toArray());
+    }
+
+    @Override
+    public void markComplete(UUID storeId) {
+        String key = SUMMARY_PREFIX + storeId;
+        // An empty store still gets a totals hash, so reads find zeros rather than nothing
+        redisTemplate.opsForHash().increment(key, "items", 0);
+        redisTemplate.opsForValue().set(key + ":complete", "1", resyncInterval);
+    }
+
+    private static List<String> keys(UUID storeId) {
+        String key = SUMMARY_PREFIX + storeId;
+        return List.of(key, key + ":rows");
+    }
+
+    private static List<String> bandBounds() {
+        List<String> args = new ArrayList<>();
+        args.add(Integer.toString(StockLevelBand.LOW_STOCK_MAX));
+        args.add(Integer.toString(StockLevelBand.MEDIUM_STOCK_MAX));
+        return args;
+    }
+
+    private static long field(Map<Object, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    /**
+     * Lua helper shared by both scripts: adds (sign 1) or removes (sign -1) one row's levels
+     * from the totals in KEYS[1], with the same banding as StockLevelBand.
+     */
+    private static String bandFunction() {
+        return """
+            local function band(available)
+                if available == 0 then return '%s' end
+                if available <= tonumber(ARGV[1]) then return '%s' end
+                if available <= tonumber(ARGV[2]) then return '%s' end
+                return '%s'
+            end
+            local function contribute(available, reserved, committed, sign)
+                redis.call('HINCRBY', KEYS[1], 'items', sign)
+                redis.call('HINCRBY', KEYS[1], 'available', sign * available)
+                redis.call('HINCRBY', KEYS[1], 'reserved', sign * reserved)
+                redis.call('HINCRBY', KEYS[1], 'committed', sign * committed)
+                redis.call('HINCRBY', KEYS[1], band(available), sign)
+            end
+            """.formatted(StockLevelBand.OUT_OF_STOCK, StockLevelBand.LOW_STOCK,
+                StockLevelBand.MEDIUM_STOCK, StockLevelBand.HIGH_STOCK);
+    }
+}
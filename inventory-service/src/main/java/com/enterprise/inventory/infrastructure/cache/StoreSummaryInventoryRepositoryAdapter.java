@@ -0,0 +1,172 @@
+package com.enterprise.inventory.infrastructure.cache;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockLevelView;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.domain.repository.InventoryListingRepository;
+import com.enterprise.inventory.domain.repository.InventoryRepository;
+import com.enterprise.inventory.domain.repository.StoreSummaryRepository;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * InventoryRepository decorator that feeds every committed row change into the store summaries.
+ * Writes that return the new row state apply it directly; releases, which do not read the rows
+ * back, re-read the affected rows in one query. So do writes to hot rows: their written state
+ * leaves out the stock held in buckets, and bucket writes do not move the row version the
+ * summary orders updates by. Summary failures never fail the write: they are counted, and the
+ * periodic resync repairs the totals.
+ */
+public class StoreSummaryInventoryRepositoryAdapter implements InventoryRepository {
+
+    private final InventoryRepository delegate;
+    private final StoreSummaryRepository summaryRepository;
+    private final InventoryListingRepository listingRepository;
+    private final InventoryMetrics inventoryMetrics;
+
+    public StoreSummaryInventoryRepositoryAdapter(InventoryRepository delegate,
+                                                  StoreSummaryRepository summaryRepository,
+                                                  InventoryListingRepository listingRepository,
+                                                  InventoryMetrics inventoryMetrics) {
+        this.delegate = delegate;
+        this.summaryRepository = summaryRepository;
+        this.listingRepository = listingRepository;
+        this.inventoryMetrics = inventoryMetrics;
+    }
+
+    @Override
+    public Optional<Inventory> findByStoreIdAndProductSku(UUID storeId, ProductSku productSku) {
+        return delegate.findByStoreIdAndProductSku(storeId, productSku);
+    }
+
+    @Override
+    public Optional<Inventory> findStockLevel(UUID storeId, ProductSku productSku) {
+        return delegate.findStockLevel(storeId, productSku);
+    }
+
+    @Override
+    public List<Inventory> findByStoreId(UUID storeId) {
+        return delegate.findByStoreId(storeId);
+    }
+
+    @Override
+    public List<Inventory> findByProductSku(ProductSku productSku) {
+        return delegate.findByProductSku(productSku);
+    }
+
+    @Override
+    public Inventory save(Inventory inventory) {
+        Inventory saved = delegate.save(inventory);
+        // The argument carries the post-save version; the returned copy may predate the flush
+        applyAfterCommit(List.of(inventory));
+        return saved;
+    }
+
+    @Override
+    public void delete(Inventory inventory) {
+        delegate.delete(inventory);
+        InventoryKey key = new InventoryKey(inventory.getStoreId(), inventory.getProductSku());
+        afterCommit(key.storeId(), () -> summaryRepository.remove(key));
+    }
+
+    @Override
+    public List<Inventory> findLowStockItems(UUID storeId, int threshold) {
+        return delegate.findLowStockItems(storeId, threshold);
+    }
+
+    @Override
+    public Optional<Inventory> findByIdWithLock(UUID inventoryId) {
+        return delegate.findByIdWithLock(inventoryId);
+    }
+
+    @Override
+    public Optional<Inventory> reserveStockConditionally(StockReservation reservation) {
+        Optional<Inventory> updated = delegate.reserveStockConditionally(reservation);
+        updated.ifPresent(inventory -> applyAfterCommit(List.of(inventory)));
+        return updated;
+    }
+
+    @Override
+    public List<Inventory> findAllForUpdate(List<InventoryKey> keys) {
+        return delegate.findAllForUpdate(keys);
+    }
+
+    @Override
+    public void saveAll(List<Inventory> inventories) {
+        delegate.saveAll(inventories);
+        if (!inventories.isEmpty()) {
+            applyAfterCommit(inventories);
+        }
+    }
+
+    @Override
+    public void releaseReservedQuantities(Map<InventoryKey, Quantity> quantities) {
+        delegate.releaseReservedQuantities(quantities);
+        if (!quantities.isEmpty()) {
+            reapplyAfterCommit(List.copyOf(quantities.keySet()));
+        }
+    }
+
+    @Override
+    public boolean isHotKey(UUID storeId, ProductSku productSku) {
+        return delegate.isHotKey(storeId, productSku);
+    }
+
+    private void applyAfterCommit(List<Inventory> inventories) {
+        List<StockLevelView> levels = new ArrayList<>(inventories.size());
+        List<InventoryKey> hotKeys = new ArrayList<>();
+        for (Inventory inventory : inventories) {
+            if (delegate.isHotKey(inventory.getStoreId(), inventory.getProductSku())) {
+                hotKeys.add(new InventoryKey(inventory.getStoreId(), inventory.getProductSku()));
+            } else {
+                levels.add(StockLevelView.of(inventory));
+            }
+        }
+
+        if (!levels.isEmpty()) {
+            afterCommit(levels.get(0).storeId(), () -> summaryRepository.apply(levels));
+        }
+        if (!hotKeys.isEmpty()) {
+            reapplyAfterCommit(hotKeys);
+        }
+    }
+
+    /**
+     * Re-read the rows with their bucket totals once committed and apply what was read.
+     */
+    private void reapplyAfterCommit(List<InventoryKey> keys) {
+        afterCommit(keys.get(0).storeId(), () -> summaryRepository.apply(listingRepository.findByKeys(keys)));
+    }
+
+    private void afterCommit(UUID storeId, Runnable action) {
+        Runnable guarded = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                inventoryMetrics.recordSyncFailure(storeId.toString(), "store-summary");
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            guarded.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                guarded.run();
+            }
+        });
+    }
+}
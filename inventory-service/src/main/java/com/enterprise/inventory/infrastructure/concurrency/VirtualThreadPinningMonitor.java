@@ -0,0 +1,104 @@
+package com.enterprise.inventory.infrastructure.concurrency;
+
+import com.enterprise.shared.observability.InventoryMetrics;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams jdk.VirtualThreadPinned JFR events in-process.
+ * A virtual thread that blocks inside a synchronized block or a native frame pins its carrier,
+ * which silently caps concurrency at the carrier count. Each pinned episode longer than the
+ * threshold is counted per offending frame and the most recent ones are kept with their stacks
+ * for the virtual-threads actuator endpoint.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int RECENT_EVENTS = 20;
+    private static final int STACK_DEPTH = 12;
+
+    private final InventoryMetrics inventoryMetrics;
+    private final Duration threshold;
+    private final Deque<PinnedEvent> recentEvents = new ConcurrentLinkedDeque<>();
+    private final LongAdder pinnedEvents = new LongAdder();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(InventoryMetrics inventoryMetrics, Duration threshold) {
+        this.inventoryMetrics = inventoryMetrics;
+        this.threshold = threshold;
+    }
+
+    public void start() {
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public long getPinnedEvents() {
+        return pinnedEvents.sum();
+    }
+
+    public List<PinnedEvent> getRecentEvents() {
+        return List.copyOf(recentEvents);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<String> frames = frames(event.getStackTrace());
+        String culprit = frames.stream()
+            .filter(frame -> frame.startsWith("com.enterprise."))
+            .findFirst()
+            .orElse(frames.isEmpty() ? "unknown" : frames.get(0));
+
+        pinnedEvents.increment();
+        inventoryMetrics.recordVirtualThreadPinned(culprit, event.getDuration());
+
+        recentEvents.addFirst(new PinnedEvent(
+            event.getStartTime(),
+            event.getDuration(),
+            event.getThread() != null ? event.getThread().getJavaName() : null,
+            frames));
+        while (recentEvents.size() > RECENT_EVENTS) {
+            recentEvents.pollLast();
+        }
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        List<String> frames = new ArrayList<>();
+        if (stackTrace == null) {
+            return frames;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frames.size() == STACK_DEPTH) {
+                break;
+            }
+            frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber());
+        }
+        return frames;
+    }
+
+    public record PinnedEvent(Instant startTime, Duration duration, String thread, List<String> stackTrace) {}
+}
@@ -0,0 +1,68 @@
+package com.enterprise.inventory.infrastructure.concurrency;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/virtual-threads: execution mode, database concurrency limit and recent carrier pinning.
+ */
+@Component
+@Endpoint(id = "virtual-threads")
+public class VirtualThreadsEndpoint {
+
+    private final boolean enabled;
+    private final DataSource dataSource;
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+
+    public VirtualThreadsEndpoint(@Value("${inventory.threads.virtual.enabled:false}") boolean enabled,
+                                  DataSource dataSource,
+                                  ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+        this.enabled = enabled;
+        this.dataSource = dataSource;
+        this.pinningMonitor = pinningMonitor;
+    }
+
+    @ReadOperation
+    public Map<String, Object> virtualThreads() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("enabled", enabled);
+        report.put("supported", VirtualThreads.isSupported());
+        report.put("runtime", Runtime.version().toString());
+
+        ConcurrencyLimitedDataSource limited = limitedDataSource(dataSource);
+        if (limited != null) {
+            report.put("database", Map.of(
+                "maxConcurrency", limited.getMaxConcurrency(),
+                "availablePermits", limited.getAvailablePermits(),
+                "waiting", limited.getQueueLength()));
+        }
+
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+        if (monitor != null) {
+            report.put("pinning", Map.of(
+                "threshold", monitor.getThreshold().toString(),
+                "events", monitor.getPinnedEvents(),
+                "recent", monitor.getRecentEvents()));
+        }
+        return report;
+    }
+
+    private static ConcurrencyLimitedDataSource limitedDataSource(DataSource dataSource) {
+        DataSource current = dataSource;
+        while (current != null) {
+            if (current instanceof ConcurrencyLimitedDataSource limited) {
+                return limited;
+            }
+            current = current instanceof DelegatingDataSource delegating ? delegating.getTargetDataSource() : null;
+        }
+        return null;
+    }
+}
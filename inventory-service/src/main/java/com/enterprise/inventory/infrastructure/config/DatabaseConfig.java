@@ -1,5 +1,8 @@
 package com.enterprise.inventory.infrastructure.config;
 
+import com.enterprise.inventory.infrastructure.concurrency.ConcurrencyLimitedDataSource;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +10,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -47,8 +51,26 @@ public class DatabaseConfig {
         return config;
     }
 
+    /**
+     * Pool wrapped in a fair concurrency limit when one is configured. The limit defaults to the
+     * pool size in virtual-thread mode, where request threads are no longer bounded by Tomcat.
+     */
     @Bean
-    public DataSource dataSource(HikariConfig hikariConfig) {
-        return new HikariDataSource(hikariConfig);
+    public DataSource dataSource(HikariConfig hikariConfig,
+                                 InventoryMetrics inventoryMetrics,
+                                 @Value("${inventory.threads.virtual.enabled:false}") boolean virtualThreads,
+                                 @Value("${inventory.database.max-concurrency:0}") int maxConcurrency,
+                                 @Value("${inventory.database.acquire-timeout:5s}") Duration acquireTimeout) {
+        HikariDataSource pool = new HikariDataSource(hikariConfig);
+
+        int limit = maxConcurrency > 0 ? maxConcurrency : virtualThreads ? hikariConfig.getMaximumPoolSize() : 0;
+        if (limit <= 0) {
+            return pool;
+        }
+
+        ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(pool, limit, acquireTimeout);
+        inventoryMetrics.registerDatabaseConcurrencyLimit(limited,
+            ConcurrencyLimitedDataSource::getAvailablePermits, ConcurrencyLimitedDataSource::getQueueLength);
+        return limited;
     }
 }
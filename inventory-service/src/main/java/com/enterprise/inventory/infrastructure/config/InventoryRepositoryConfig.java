@@ -0,0 +1,48 @@
+package com.enterprise.inventory.infrastructure.config;
+
+import com.enterprise.inventory.domain.repository.InventoryListingRepository;
+import com.enterprise.inventory.domain.repository.InventoryRepository;
+import com.enterprise.inventory.domain.repository.StoreSummaryRepository;
+import com.enterprise.inventory.infrastructure.cache.CachingInventoryRepositoryAdapter;
+import com.enterprise.inventory.infrastructure.cache.InventoryCacheService;
+import com.enterprise.inventory.infrastructure.cache.StoreSummaryInventoryRepositoryAdapter;
+import com.enterprise.inventory.infrastructure.ledger.LedgerInventoryRepositoryAdapter;
+import com.enterprise.inventory.infrastructure.persistence.InventoryRepositoryAdapter;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Selects the InventoryRepository injected into the use cases.
+ * The in-memory ledger wins when enabled; otherwise the database adapter is used,
+ * wrapped in the read-through cache unless that is switched off. Either way, committed
+ * changes feed the store summaries unless those are switched off.
+ */
+@Configuration
+public class InventoryRepositoryConfig {
+
+    @Bean
+    @Primary
+    public InventoryRepository inventoryRepository(InventoryRepositoryAdapter databaseRepository,
+                                                   ObjectProvider<LedgerInventoryRepositoryAdapter> ledgerRepository,
+                                                   InventoryCacheService cacheService,
+                                                   StoreSummaryRepository summaryRepository,
+                                                   InventoryListingRepository listingRepository,
+                                                   InventoryMetrics inventoryMetrics,
+                                                   @Value("${inventory.cache.read-through.enabled:true}") boolean readThroughEnabled,
+                                                   @Value("${inventory.summary.enabled:true}") boolean summaryEnabled) {
+        InventoryRepository repository = ledgerRepository.getIfAvailable();
+        if (repository == null) {
+            repository = readThroughEnabled
+                ? new CachingInventoryRepositoryAdapter(databaseRepository, cacheService)
+                : databaseRepository;
+        }
+
+        return summaryEnabled
+            ? new StoreSummaryInventoryRepositoryAdapter(repository, summaryRepository, listingRepository, inventoryMetrics)
+            : repository;
+    }
+}
@@ -0,0 +1,12 @@
+package com.enterprise.inventory.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs such as the outbox relay and the reservation expiry sweeper.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
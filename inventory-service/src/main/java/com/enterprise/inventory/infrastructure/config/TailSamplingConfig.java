@@ -0,0 +1,44 @@
+package com.enterprise.inventory.infrastructure.config;
+
+import com.enterprise.inventory.infrastructure.observability.TailSamplingSpanProcessor;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * In-process tail sampling: every exporting span processor is wrapped so only slow or failed
+ * traces leave the service. The head sampler must keep every trace for this to see them, so
+ * management.tracing.sampling.probability should stay at 1.0.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.tracing.tail-sampling", name = "enabled", havingValue = "true")
+public class TailSamplingConfig {
+
+    @Bean
+    public static BeanPostProcessor tailSamplingSpanProcessorPostProcessor(Environment environment) {
+        Duration latencyThreshold = environment.getProperty(
+            "inventory.tracing.tail-sampling.latency-threshold", Duration.class, Duration.ofMillis(500));
+        int maxTraces = environment.getProperty(
+            "inventory.tracing.tail-sampling.max-traces", Integer.class, 10000);
+        int maxSpansPerTrace = environment.getProperty(
+            "inventory.tracing.tail-sampling.max-spans-per-trace", Integer.class, 256);
+        Duration maxTraceAge = environment.getProperty(
+            "inventory.tracing.tail-sampling.max-trace-age", Duration.class, Duration.ofMinutes(1));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SpanProcessor processor && !(bean instanceof TailSamplingSpanProcessor)) {
+                    return new TailSamplingSpanProcessor(processor, latencyThreshold, maxTraces,
+                        maxSpansPerTrace, maxTraceAge);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.enterprise.inventory.infrastructure.config;
+
+import com.enterprise.inventory.infrastructure.concurrency.VirtualThreadPinningMonitor;
+import com.enterprise.inventory.infrastructure.concurrency.VirtualThreads;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Virtual-thread execution mode.
+ * Tomcat hands every request to its own virtual thread, so the use cases and their blocking
+ * JDBC, Redis and Kafka calls run on virtual threads; the application task executor follows.
+ * Database access is capped by the ConcurrencyLimitedDataSource configured in DatabaseConfig,
+ * and carrier pinning is streamed from JFR. Requires a Java 21 runtime.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadRequestExecutor() {
+        return VirtualThreads.newThreadPerTaskExecutor("http-vt-");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadRequestExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadRequestExecutor);
+    }
+
+    @Bean(name = "applicationTaskExecutor")
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor("task-vt-"));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            InventoryMetrics inventoryMetrics,
+            @Value("${inventory.threads.virtual.pinning-threshold:20ms}") Duration pinningThreshold) {
+        return new VirtualThreadPinningMonitor(inventoryMetrics, pinningThreshold);
+    }
+}
@@ -0,0 +1,68 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of an inventory row held by a ledger shard.
+ * Shards publish a new snapshot per mutation so readers never observe partial updates.
+ */
+public record LedgerEntry(
+    UUID id,
+    UUID storeId,
+    String productSku,
+    int availableQuantity,
+    int reservedQuantity,
+    int committedQuantity,
+    long lastUpdatedMillis,
+    long version
+) {
+
+    public static LedgerEntry from(Inventory inventory, long version) {
+        return new LedgerEntry(
+            inventory.getId(),
+            inventory.getStoreId(),
+            inventory.getProductSku().getValue(),
+            inventory.getAvailableQuantity().getValue(),
+            inventory.getReservedQuantity().getValue(),
+            inventory.getCommittedQuantity().getValue(),
+            inventory.getLastUpdated().toEpochMilli(),
+            version
+        );
+    }
+
+    public LedgerKey key() {
+        return new LedgerKey(storeId, productSku);
+    }
+
+    /**
+     * Move quantity from available to reserved, producing the next version.
+     */
+    public LedgerEntry reserve(int quantity) {
+        return new LedgerEntry(id, storeId, productSku,
+            availableQuantity - quantity, reservedQuantity + quantity, committedQuantity,
+            System.currentTimeMillis(), version + 1);
+    }
+
+    /**
+     * Return up to quantity reserved units to available, producing the next version.
+     */
+    public LedgerEntry release(int quantity) {
+        int released = Math.min(quantity, reservedQuantity);
+        return new LedgerEntry(id, storeId, productSku,
+            availableQuantity + released, reservedQuantity - released, committedQuantity,
+            System.currentTimeMillis(), version + 1);
+    }
+
+    public Inventory toDomain() {
+        return new Inventory(
+            id, storeId, ProductSku.of(productSku),
+            Quantity.of(availableQuantity), Quantity.of(reservedQuantity),
+            Quantity.of(committedQuantity), Instant.ofEpochMilli(lastUpdatedMillis), version
+        );
+    }
+}
@@ -0,0 +1,178 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.domain.repository.DomainEventOutboxRepository;
+import com.enterprise.inventory.domain.repository.InventoryRepository;
+import com.enterprise.inventory.domain.repository.StockReservationRepository;
+import com.enterprise.inventory.infrastructure.persistence.InventoryRepositoryAdapter;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * InventoryRepository backed by the sharded in-memory ledger.
+ * Single-row reads and writes are served by the owning shard; list queries run
+ * against the table and are overlaid with the in-memory state of loaded keys.
+ * Domain events go to the outbox and reservation rows to their table in the caller's
+ * transaction, so reservations are visible to commit and expiry as soon as it commits;
+ * ledger mutations stay private to it and are journaled when it commits.
+ */
+@Component
+@ConditionalOnProperty(prefix = "inventory.ledger", name = "enabled", havingValue = "true")
+public class LedgerInventoryRepositoryAdapter implements InventoryRepository {
+
+    private final ShardedStockLedger ledger;
+    private final InventoryRepositoryAdapter databaseRepository;
+    private final DomainEventOutboxRepository eventOutbox;
+    private final StockReservationRepository reservationRepository;
+    private final InventoryMetrics inventoryMetrics;
+
+    public LedgerInventoryRepositoryAdapter(ShardedStockLedger ledger,
+                                            InventoryRepositoryAdapter databaseRepository,
+                                            DomainEventOutboxRepository eventOutbox,
+                                            StockReservationRepository reservationRepository,
+                                            InventoryMetrics inventoryMetrics) {
+        this.ledger = ledger;
+        this.databaseRepository = databaseRepository;
+        this.eventOutbox = eventOutbox;
+        this.reservationRepository = reservationRepository;
+        this.inventoryMetrics = inventoryMetrics;
+    }
+
+    @Override
+    public Optional<Inventory> findByStoreIdAndProductSku(UUID storeId, ProductSku productSku) {
+        return ledger.find(storeId, productSku);
+    }
+
+    @Override
+    public Optional<Inventory> findStockLevel(UUID storeId, ProductSku productSku) {
+        // Snapshots are already in memory, no cache needed in front of the ledger
+        return ledger.find(storeId, productSku);
+    }
+
+    @Override
+    public List<Inventory> findByStoreId(UUID storeId) {
+        return overlay(databaseRepository.findByStoreId(storeId));
+    }
+
+    @Override
+    public List<Inventory> findByProductSku(ProductSku productSku) {
+        return overlay(databaseRepository.findByProductSku(productSku));
+    }
+
+    @Override
+    public Inventory save(Inventory inventory) {
+        try {
+            Inventory saved = ledger.save(inventory);
+            eventOutbox.append(inventory);
+
+            inventoryMetrics.recordInventoryLevel(
+                inventory.getStoreId(),
+                inventory.getProductSku().getValue(),
+                inventory.getAvailableQuantity().getValue()
+            );
+
+            // Clear domain events after successful persistence
+            inventory.clearDomainEvents();
+            inventory.incrementVersion();
+
+            return saved;
+        } catch (Exception e) {
+            inventoryMetrics.recordSyncFailure(
+                inventory.getStoreId().toString(),
+                "persistence-error"
+            );
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(Inventory inventory) {
+        ledger.evict(inventory.getStoreId(), inventory.getProductSku());
+        databaseRepository.delete(inventory);
+    }
+
+    @Override
+    public List<Inventory> findLowStockItems(UUID storeId, int threshold) {
+        return overlay(databaseRepository.findLowStockItems(storeId, threshold)).stream()
+            .filter(inventory -> inventory.getAvailableQuantity().getValue() <= threshold)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Inventory> findByIdWithLock(UUID inventoryId) {
+        return databaseRepository.findByIdWithLock(inventoryId).map(ledger::overlay);
+    }
+
+    @Override
+    public Optional<Inventory> reserveStockConditionally(StockReservation reservation) {
+        Optional<Inventory> updated = ledger.reserve(reservation);
+
+        updated.ifPresent(inventory -> {
+            // Written in the caller's transaction, like the INSERT of the table-backed adapter
+            reservationRepository.save(reservation);
+            inventory.registerReservation(reservation);
+            eventOutbox.append(inventory);
+            inventory.clearDomainEvents();
+
+            inventoryMetrics.recordInventoryLevel(
+                inventory.getStoreId(),
+                inventory.getProductSku().getValue(),
+                inventory.getAvailableQuantity().getValue()
+            );
+        });
+
+        return updated;
+    }
+
+    /**
+     * Shard-owned keys need no row locks; entries are returned in key order.
+     */
+    @Override
+    public List<Inventory> findAllForUpdate(List<InventoryKey> keys) {
+        return keys.stream()
+            .distinct()
+            .sorted()
+            .map(key -> ledger.find(key.storeId(), key.productSku()))
+            .flatMap(Optional::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Each inventory is version-checked on its own shard. A conflict on one entry leaves entries
+     * already staged on other shards to be dropped when the caller's transaction rolls back.
+     */
+    @Override
+    public void saveAll(List<Inventory> inventories) {
+        inventories.forEach(this::save);
+    }
+
+    @Override
+    public void releaseReservedQuantities(Map<InventoryKey, Quantity> quantities) {
+        new TreeMap<>(quantities).forEach((key, quantity) ->
+            ledger.release(key.storeId(), key.productSku(), quantity.getValue()));
+    }
+
+    @Override
+    public boolean isHotKey(UUID storeId, ProductSku productSku) {
+        // Shards already serialize writes in memory without row contention
+        return false;
+    }
+
+    private List<Inventory> overlay(List<Inventory> fromDatabase) {
+        return fromDatabase.stream()
+            .map(ledger::overlay)
+            .collect(Collectors.toList());
+    }
+}
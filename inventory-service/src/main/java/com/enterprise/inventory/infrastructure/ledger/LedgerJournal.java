@@ -0,0 +1,186 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal for one ledger shard.
+ * Appends and compaction run on the shard writer thread only; the flusher drains
+ * the pending queue and advances the checkpoint from its own thread.
+ */
+public class LedgerJournal {
+
+    private static final String JOURNAL_SUFFIX = ".log";
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    private final Path journalFile;
+    private final Path checkpointFile;
+    private final ObjectMapper objectMapper;
+    private final Queue<LedgerJournalRecord> pending = new ConcurrentLinkedQueue<>();
+    private BufferedWriter writer;
+    private long nextSequence;
+    private volatile long flushedSequence;
+
+    public LedgerJournal(Path directory, int shardIndex, ObjectMapper objectMapper) {
+        this.journalFile = directory.resolve("journal-" + shardIndex + JOURNAL_SUFFIX);
+        this.checkpointFile = directory.resolve("journal-" + shardIndex + CHECKPOINT_SUFFIX);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Open the journal for appending. Must be called after recovery has flushed old records.
+     */
+    public void open(long startSequence) {
+        try {
+            Files.createDirectories(journalFile.getParent());
+            this.writer = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            this.nextSequence = startSequence + 1;
+            this.flushedSequence = startSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open ledger journal " + journalFile, e);
+        }
+    }
+
+    /**
+     * Append a record and queue it for write-behind. Shard thread only.
+     */
+    public LedgerJournalRecord append(LedgerEntry entry) {
+        LedgerJournalRecord record = new LedgerJournalRecord(nextSequence++, entry);
+        try {
+            writer.write(objectMapper.writeValueAsString(record));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to ledger journal " + journalFile, e);
+        }
+        pending.add(record);
+        return record;
+    }
+
+    /**
+     * Drain up to maxRecords pending records for the flusher.
+     */
+    public List<LedgerJournalRecord> drain(int maxRecords) {
+        List<LedgerJournalRecord> batch = new ArrayList<>(Math.min(maxRecords, 64));
+        LedgerJournalRecord record;
+        while (batch.size() < maxRecords && (record = pending.poll()) != null) {
+            batch.add(record);
+        }
+        return batch;
+    }
+
+    /**
+     * Persist the highest sequence known to be in the database.
+     */
+    public void checkpoint(long sequence) {
+        try {
+            Files.writeString(checkpointFile, Long.toString(sequence), StandardCharsets.UTF_8);
+            this.flushedSequence = sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write ledger checkpoint " + checkpointFile, e);
+        }
+    }
+
+    /**
+     * Truncate the journal once every appended record has been flushed. Shard thread only.
+     */
+    public void compactIfFlushed() {
+        if (flushedSequence != nextSequence - 1 || !pending.isEmpty()) {
+            return;
+        }
+        try {
+            writer.close();
+            this.writer = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact ledger journal " + journalFile, e);
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public void close() {
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            // Journal content is already flushed line by line
+        }
+    }
+
+    /**
+     * Read every journal in the directory, including those of shards that no longer exist
+     * after a shard-count change, returning records newer than each file's checkpoint.
+     */
+    public static List<LedgerJournalRecord> readUnflushed(Path directory, ObjectMapper objectMapper) {
+        List<LedgerJournalRecord> records = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return records;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(p -> p.getFileName().toString().endsWith(JOURNAL_SUFFIX)).toList()) {
+                long checkpoint = readCheckpoint(checkpointFor(file));
+                try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+                    for (String line : lines.filter(l -> !l.isBlank()).toList()) {
+                        LedgerJournalRecord record = objectMapper.readValue(line, LedgerJournalRecord.class);
+                        if (record.sequence() > checkpoint) {
+                            records.add(record);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read ledger journals from " + directory, e);
+        }
+        return records;
+    }
+
+    /**
+     * Remove all journals and checkpoints after recovery has applied them.
+     */
+    public static void resetAll(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(JOURNAL_SUFFIX) || name.endsWith(CHECKPOINT_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to reset ledger journals in " + directory, e);
+        }
+    }
+
+    private static Path checkpointFor(Path journal) {
+        String name = journal.getFileName().toString();
+        return journal.resolveSibling(name.substring(0, name.length() - JOURNAL_SUFFIX.length()) + CHECKPOINT_SUFFIX);
+    }
+
+    private static long readCheckpoint(Path checkpoint) throws IOException {
+        if (!Files.exists(checkpoint)) {
+            return 0L;
+        }
+        String value = Files.readString(checkpoint, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? 0L : Long.parseLong(value);
+    }
+}
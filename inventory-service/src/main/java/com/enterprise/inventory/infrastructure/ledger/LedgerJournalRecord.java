@@ -0,0 +1,8 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+/**
+ * One write-behind journal line: the full post-mutation row state. Records carry
+ * absolute state, so replaying them is idempotent.
+ */
+public record LedgerJournalRecord(long sequence, LedgerEntry entry) {
+}
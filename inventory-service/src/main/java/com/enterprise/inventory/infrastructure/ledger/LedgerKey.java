@@ -0,0 +1,17 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+import java.util.UUID;
+
+/**
+ * Identity of a ledger entry: one inventory row per store and product.
+ */
+public record LedgerKey(UUID storeId, String productSku) {
+
+    /**
+     * Stable shard assignment for this key.
+     */
+    public int shardFor(int shardCount) {
+        int hash = storeId.hashCode() * 31 + productSku.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+}
@@ -0,0 +1,66 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes journal records to PostgreSQL in batches.
+ * Row states are coalesced per key so a hot SKU costs one upsert per flush regardless
+ * of how many mutations it received; the version guard keeps replays idempotent.
+ */
+public class LedgerWriteBehindFlusher {
+
+    private static final String UPSERT_INVENTORY_SQL = """
+        INSERT INTO inventory (id, store_id, product_sku, available_quantity, reserved_quantity,
+                               committed_quantity, last_updated, version)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (store_id, product_sku) DO UPDATE
+           SET available_quantity = EXCLUDED.available_quantity,
+               reserved_quantity = EXCLUDED.reserved_quantity,
+               committed_quantity = EXCLUDED.committed_quantity,
+               last_updated = EXCLUDED.last_updated,
+               version = EXCLUDED.version
+         WHERE inventory.version < EXCLUDED.version
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public LedgerWriteBehindFlusher(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Apply a batch of records in one transaction.
+     */
+    public void flush(Collection<LedgerJournalRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        Map<LedgerKey, LedgerEntry> latest = new LinkedHashMap<>();
+        for (LedgerJournalRecord record : records) {
+            latest.merge(record.entry().key(), record.entry(),
+                (current, candidate) -> candidate.version() > current.version() ? candidate : current);
+        }
+
+        List<Object[]> rows = new ArrayList<>(latest.size());
+        for (LedgerEntry entry : latest.values()) {
+            rows.add(new Object[] {
+                entry.id(), entry.storeId(), entry.productSku(), entry.availableQuantity(),
+                entry.reservedQuantity(), entry.committedQuantity(),
+                new Timestamp(entry.lastUpdatedMillis()), entry.version()
+            });
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_INVENTORY_SQL, rows));
+    }
+}
@@ -0,0 +1,356 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.infrastructure.persistence.InventoryRepositoryAdapter;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.observability.InventoryMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory stock ledger partitioned into single-writer shards.
+ * Keys are routed to a fixed shard, mutations run on that shard's thread and are
+ * journaled to disk before being written behind to the inventory table.
+ * On startup, unflushed journal records are applied to the table first, so the
+ * table plus the journal always reconstruct the latest acknowledged state.
+ * Reservation rows are not journaled: callers write them in their own transaction.
+ *
+ * Inside a transaction, the first mutation of a key locks it until the transaction completes.
+ * Its mutations are staged on the shard, visible only to that transaction, and are published
+ * and journaled once it commits; a rollback drops them. Other transactions wait for the key,
+ * so none of them reads or builds on stock that may still be rolled back.
+ *
+ * The ledger assumes it is the only writer for the inventory rows it serves.
+ */
+@Component
+@ConditionalOnProperty(prefix = "inventory.ledger", name = "enabled", havingValue = "true")
+public class ShardedStockLedger {
+
+    private final InventoryRepositoryAdapter databaseRepository;
+    private final LedgerWriteBehindFlusher flusher;
+    private final ObjectMapper objectMapper;
+    private final InventoryMetrics inventoryMetrics;
+    private final Path journalDirectory;
+    private final int shardCount;
+    private final Duration flushInterval;
+    private final int flushBatchSize;
+    private final Map<Integer, List<LedgerJournalRecord>> failedBatches = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Map<LedgerKey, ReentrantLock> keyLocks = new ConcurrentHashMap<>();
+    private final Duration lockTimeout;
+
+    private StockLedgerShard[] shards;
+    private ScheduledExecutorService flushScheduler;
+
+    public ShardedStockLedger(InventoryRepositoryAdapter databaseRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              InventoryMetrics inventoryMetrics,
+                              @Value("${inventory.ledger.journal-dir:./data/ledger}") String journalDirectory,
+                              @Value("${inventory.ledger.shards:0}") int shards,
+                              @Value("${inventory.ledger.flush-interval:50ms}") Duration flushInterval,
+                              @Value("${inventory.ledger.flush-batch-size:500}") int flushBatchSize,
+                              @Value("${inventory.ledger.lock-timeout:2s}") Duration lockTimeout) {
+        this.databaseRepository = databaseRepository;
+        this.flusher = new LedgerWriteBehindFlusher(jdbcTemplate, new TransactionTemplate(transactionManager));
+        this.objectMapper = objectMapper;
+        this.inventoryMetrics = inventoryMetrics;
+        this.journalDirectory = Path.of(journalDirectory);
+        this.shardCount = shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+        this.flushInterval = flushInterval;
+        this.flushBatchSize = flushBatchSize;
+        this.lockTimeout = lockTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        recover();
+
+        this.shards = new StockLedgerShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            LedgerJournal journal = new LedgerJournal(journalDirectory, i, objectMapper);
+            journal.open(0L);
+            shards[i] = new StockLedgerShard(i, journal);
+        }
+
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-ledger-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(this::flushAll,
+            flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flushScheduler.shutdown();
+        try {
+            flushScheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+        for (StockLedgerShard shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    /**
+     * Read the committed state, loading it from the table on first access. A transaction that
+     * holds the key reads its own uncommitted state instead.
+     */
+    public Optional<Inventory> find(UUID storeId, ProductSku productSku) {
+        LedgerKey key = new LedgerKey(storeId, productSku.getValue());
+        StockLedgerShard shard = shardFor(key);
+
+        LedgerEntry staged = heldByCaller(key) ? shard.staged(key) : null;
+        return Optional.ofNullable(staged != null ? staged : loadIfAbsent(shard, key)).map(LedgerEntry::toDomain);
+    }
+
+    /**
+     * Apply an aggregate mutated by the domain. The version check is a plain comparison on
+     * the owning shard thread, so conflicts are detected without row locks.
+     */
+    public Inventory save(Inventory inventory) {
+        LedgerKey key = new LedgerKey(inventory.getStoreId(), inventory.getProductSku().getValue());
+
+        return mutate(key, current -> {
+            long nextVersion = inventory.getVersion();
+            if (current != null) {
+                if (current.version() != inventory.getVersion()) {
+                    throw new OptimisticLockingFailureException(String.format(
+                        "Ledger version conflict for store %s and product %s: expected %d but was %d",
+                        key.storeId(), key.productSku(), inventory.getVersion(), current.version()));
+                }
+                nextVersion = current.version() + 1;
+            }
+            return LedgerEntry.from(inventory, nextVersion);
+        }).toDomain();
+    }
+
+    /**
+     * Guarded reservation executed on the owning shard, mirroring the conditional UPDATE.
+     */
+    public Optional<Inventory> reserve(StockReservation reservation) {
+        LedgerKey key = new LedgerKey(reservation.getStoreId(), reservation.getProductSku().getValue());
+        int quantity = reservation.getQuantity().getValue();
+
+        LedgerEntry reserved = mutate(key, current ->
+            current == null || current.availableQuantity() < quantity ? null : current.reserve(quantity));
+        return Optional.ofNullable(reserved).map(LedgerEntry::toDomain);
+    }
+
+    /**
+     * Return released reserved stock to available on the owning shard.
+     */
+    public void release(UUID storeId, ProductSku productSku, int quantity) {
+        mutate(new LedgerKey(storeId, productSku.getValue()),
+            current -> current != null ? current.release(quantity) : null);
+    }
+
+    /**
+     * Prefer the in-memory state over a possibly stale database row.
+     */
+    public Inventory overlay(Inventory fromDatabase) {
+        LedgerKey key = new LedgerKey(fromDatabase.getStoreId(), fromDatabase.getProductSku().getValue());
+        StockLedgerShard shard = shardFor(key);
+
+        LedgerEntry entry = heldByCaller(key) ? shard.staged(key) : null;
+        if (entry == null) {
+            entry = shard.snapshot(key);
+        }
+        return entry != null ? entry.toDomain() : fromDatabase;
+    }
+
+    /**
+     * Flush pending writes for the key's shard and forget the key, ahead of a row delete.
+     */
+    public void evict(UUID storeId, ProductSku productSku) {
+        LedgerKey key = new LedgerKey(storeId, productSku.getValue());
+        StockLedgerShard shard = shardFor(key);
+        shard.execute(() -> {
+            shard.remove(key);
+            return null;
+        });
+        flushShard(shard);
+    }
+
+    /**
+     * Run one mutation of a key on its shard while the caller holds the key. The mutation sees
+     * the caller's own uncommitted state and returns the next snapshot, or null to change nothing.
+     * Outside a transaction the result is journaled and published at once; inside one it stays
+     * staged, invisible to other callers, until the transaction completes.
+     */
+    private LedgerEntry mutate(LedgerKey key, UnaryOperator<LedgerEntry> mutation) {
+        StockLedgerShard shard = shardFor(key);
+        loadIfAbsent(shard, key);
+
+        boolean deferred = TransactionSynchronizationManager.isSynchronizationActive();
+        ReentrantLock lock = hold(shard, key, deferred);
+        try {
+            return shard.execute(() -> {
+                LedgerEntry next = mutation.apply(shard.current(key));
+                if (next != null) {
+                    if (deferred) {
+                        shard.stage(next);
+                    } else {
+                        shard.journal().append(next);
+                        shard.put(next);
+                    }
+                }
+                return next;
+            });
+        } finally {
+            if (!deferred) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Take the key's lock. A transaction keeps it until it completes, so no other caller can read
+     * or build on its staged state, and a rollback only has to drop what was staged. The
+     * completion publishes and journals the staged state on commit, then unlocks; it runs on the
+     * caller's thread, which owns both the transaction and the lock.
+     */
+    private ReentrantLock hold(StockLedgerShard shard, LedgerKey key, boolean deferred) {
+        ReentrantLock lock = keyLocks.computeIfAbsent(key, ignored -> new ReentrantLock());
+        if (deferred && lock.isHeldByCurrentThread()) {
+            return lock;
+        }
+
+        try {
+            if (!lock.tryLock(lockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new CannotAcquireLockException(String.format(
+                    "Ledger entry for store %s and product %s is held by another transaction",
+                    key.storeId(), key.productSku()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Interrupted waiting for ledger entry " + key, e);
+        }
+
+        if (deferred) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    try {
+                        shard.execute(() -> {
+                            LedgerEntry staged = shard.unstage(key);
+                            if (staged != null && status == STATUS_COMMITTED) {
+                                shard.journal().append(staged);
+                                shard.put(staged);
+                            }
+                            return null;
+                        });
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            });
+        }
+        return lock;
+    }
+
+    private boolean heldByCaller(LedgerKey key) {
+        ReentrantLock lock = keyLocks.get(key);
+        return lock != null && lock.isHeldByCurrentThread();
+    }
+
+    /**
+     * Read the current snapshot, loading the row on the caller's thread on first access so the
+     * shard thread never waits on JDBC. The row is installed only while the key is still absent,
+     * so a snapshot the shard published in the meantime wins over it.
+     */
+    private LedgerEntry loadIfAbsent(StockLedgerShard shard, LedgerKey key) {
+        LedgerEntry entry = shard.snapshot(key);
+        if (entry != null) {
+            return entry;
+        }
+
+        return databaseRepository.findByStoreIdAndProductSku(key.storeId(), ProductSku.of(key.productSku()))
+            .map(stored -> shard.install(LedgerEntry.from(stored, stored.getVersion())))
+            .orElse(null);
+    }
+
+    private StockLedgerShard shardFor(LedgerKey key) {
+        return shards[key.shardFor(shardCount)];
+    }
+
+    private void recover() {
+        List<LedgerJournalRecord> unflushed = LedgerJournal.readUnflushed(journalDirectory, objectMapper);
+        for (int from = 0; from < unflushed.size(); from += flushBatchSize) {
+            flusher.flush(unflushed.subList(from, Math.min(unflushed.size(), from + flushBatchSize)));
+        }
+        LedgerJournal.resetAll(journalDirectory);
+    }
+
+    private void flushAll() {
+        for (StockLedgerShard shard : shards) {
+            try {
+                while (flushShard(shard) >= flushBatchSize) {
+                    // Keep draining while the shard produces full batches
+                }
+            } catch (Exception e) {
+                // Failed batches are retained and retried on the next tick
+            }
+        }
+    }
+
+    /**
+     * Serialized with a lock rather than synchronized: evict() calls this from request threads,
+     * and the JDBC flush must not pin a virtual thread to its carrier.
+     */
+    private int flushShard(StockLedgerShard shard) {
+        flushLock.lock();
+        try {
+            List<LedgerJournalRecord> batch = failedBatches.remove(shard.index());
+            if (batch == null) {
+                batch = shard.journal().drain(flushBatchSize);
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                flusher.flush(batch);
+                shard.journal().checkpoint(batch.get(batch.size() - 1).sequence());
+                shard.submit(shard.journal()::compactIfFlushed);
+                return batch.size();
+            } catch (Exception e) {
+                failedBatches.put(shard.index(), batch);
+                inventoryMetrics.recordSyncFailure("ledger-shard-" + shard.index(), "write-behind-error");
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer partition of the stock ledger.
+ * Every mutation of an owned key runs on the shard's dedicated thread, so no locks or
+ * version retries are needed; readers see immutable snapshots through the entry map.
+ * Rows loaded from the table are installed from the reading thread, but only into absent keys.
+ * Uncommitted snapshots are staged apart from the published ones; the ledger lets only the
+ * transaction holding a key read or replace its staged snapshot.
+ */
+public class StockLedgerShard {
+
+    private final int index;
+    private final ExecutorService writer;
+    private final Map<LedgerKey, LedgerEntry> entries = new ConcurrentHashMap<>();
+    private final Map<LedgerKey, LedgerEntry> staged = new ConcurrentHashMap<>();
+    private final LedgerJournal journal;
+
+    public StockLedgerShard(int index, LedgerJournal journal) {
+        this.index = index;
+        this.journal = journal;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-ledger-shard-" + index);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Run an operation on the shard writer thread and wait for its result.
+     */
+    public <T> T execute(Supplier<T> operation) {
+        try {
+            return CompletableFuture.supplyAsync(operation, writer).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Schedule housekeeping on the writer thread without waiting for it.
+     */
+    public void submit(Runnable task) {
+        writer.execute(task);
+    }
+
+    /**
+     * Lock-free snapshot read, safe from any thread.
+     */
+    public LedgerEntry snapshot(LedgerKey key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Publish a new snapshot. Writer thread only.
+     */
+    public void put(LedgerEntry entry) {
+        entries.put(entry.key(), entry);
+    }
+
+    /**
+     * Install a snapshot loaded from the table unless the key is already present, returning the
+     * snapshot that ends up in the map. Safe from any thread: it never replaces a writer's snapshot.
+     */
+    public LedgerEntry install(LedgerEntry entry) {
+        LedgerEntry existing = entries.putIfAbsent(entry.key(), entry);
+        return existing != null ? existing : entry;
+    }
+
+    /**
+     * The staged snapshot of a key if its holder has one, otherwise the published one.
+     * Writer thread only.
+     */
+    public LedgerEntry current(LedgerKey key) {
+        LedgerEntry entry = staged.get(key);
+        return entry != null ? entry : entries.get(key);
+    }
+
+    /**
+     * Stage an uncommitted snapshot. Writer thread only.
+     */
+    public void stage(LedgerEntry entry) {
+        staged.put(entry.key(), entry);
+    }
+
+    /**
+     * Staged snapshot of a key, or null. Safe from any thread.
+     */
+    public LedgerEntry staged(LedgerKey key) {
+        return staged.get(key);
+    }
+
+    /**
+     * Remove and return the staged snapshot of a key, or null. Writer thread only.
+     */
+    public LedgerEntry unstage(LedgerKey key) {
+        return staged.remove(key);
+    }
+
+    /**
+     * Drop a key from memory. Writer thread only.
+     */
+    public void remove(LedgerKey key) {
+        entries.remove(key);
+    }
+
+    public LedgerJournal journal() {
+        return journal;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+}
@@ -4,15 +4,20 @@ import com.enterprise.shared.domain.events.DomainEvent;
 import com.enterprise.shared.observability.DistributedTracing;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentelemetry.api.trace.Span;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 /**
  * Kafka publisher for domain events implementing Event Sourcing pattern.
  * Ensures reliable event delivery with distributed tracing.
+ *
+ * Sends are asynchronous and bounded by an in-flight window: the outbox relay waits for
+ * a free slot, while direct publishes fail fast instead of blocking request threads.
  */
 @Component
 public class DomainEventPublisher {
@@ -22,13 +27,19 @@ public class DomainEventPublisher {
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
     private final DistributedTracing distributedTracing;
+    private final PartitionKeyStrategy partitionKeyStrategy;
+    private final Semaphore inFlightWindow;
 
     public DomainEventPublisher(KafkaTemplate<String, String> kafkaTemplate,
                                ObjectMapper objectMapper,
-                               DistributedTracing distributedTracing) {
+                               DistributedTracing distributedTracing,
+                               @Value("${inventory.events.partition-key:aggregate}") PartitionKeyStrategy partitionKeyStrategy,
+                               @Value("${inventory.events.max-in-flight-sends:10000}") int maxInFlightSends) {
         this.kafkaTemplate = kafkaTemplate;
         this.objectMapper = objectMapper;
         this.distributedTracing = distributedTracing;
+        this.partitionKeyStrategy = partitionKeyStrategy;
+        this.inFlightWindow = new Semaphore(maxInFlightSends);
     }
 
     /**
@@ -45,11 +56,17 @@ public class DomainEventPublisher {
                 String eventJson = objectMapper.writeValueAsString(event);
 
                 // Create message key for partitioning (ensures ordering per aggregate)
-                String messageKey = generateMessageKey(event);
+                String messageKey = partitionKeyStrategy.messageKey(
+                    event.getEventType(), PartitionKeyStrategy.aggregateKeyOf(event));
+
+                // Never block the caller: shed load when the in-flight window is full
+                if (!inFlightWindow.tryAcquire()) {
+                    throw new EventPublishingException("In-flight window full, event not published: "
+                        + event.getEventType(), null);
+                }
 
                 // Publish to Kafka
-                CompletableFuture<SendResult<String, String>> future =
-                    kafkaTemplate.send(INVENTORY_EVENTS_TOPIC, messageKey, eventJson);
+                CompletableFuture<SendResult<String, String>> future = send(messageKey, eventJson);
 
                 // Add success/failure callbacks
                 future.whenComplete((result, ex) -> {
@@ -73,16 +90,31 @@ public class DomainEventPublisher {
     }
 
     /**
-     * Generate message key for proper partitioning and ordering.
+     * Publish an event already serialized by the outbox, without blocking on the broker.
+     * Waits for a slot in the in-flight window, so it must only be called from background threads.
      */
-    private String generateMessageKey(DomainEvent event) {
-        // Use event type as key to ensure related events go to same partition
-        return event.getEventType();
+    public CompletableFuture<SendResult<String, String>> publishSerialized(String eventType,
+                                                                          String aggregateKey,
+                                                                          String eventJson) {
+        try {
+            inFlightWindow.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(
+                new EventPublishingException("Interrupted while waiting to publish: " + eventType, e));
+        }
+        return send(partitionKeyStrategy.messageKey(eventType, aggregateKey), eventJson);
     }
-}
 
-class EventPublishingException extends RuntimeException {
-    public EventPublishingException(String message, Throwable cause) {
-        super(message, cause);
+    private CompletableFuture<SendResult<String, String>> send(String messageKey, String eventJson) {
+        CompletableFuture<SendResult<String, String>> future;
+        try {
+            future = kafkaTemplate.send(INVENTORY_EVENTS_TOPIC, messageKey, eventJson);
+        } catch (RuntimeException e) {
+            inFlightWindow.release();
+            throw e;
+        }
+        future.whenComplete((result, ex) -> inFlightWindow.release());
+        return future;
     }
 }
@@ -0,0 +1,7 @@
+package com.enterprise.inventory.infrastructure.messaging;
+
+class EventPublishingException extends RuntimeException {
+    public EventPublishingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
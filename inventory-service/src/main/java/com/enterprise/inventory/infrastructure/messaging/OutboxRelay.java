@@ -0,0 +1,170 @@
+package com.enterprise.inventory.infrastructure.messaging;
+
+import com.enterprise.inventory.infrastructure.persistence.DomainEventOutboxRepositoryAdapter;
+import com.enterprise.inventory.infrastructure.persistence.DomainEventOutboxRepositoryAdapter.OutboxRecord;
+import com.enterprise.shared.observability.InventoryMetrics;
+import com.enterprise.shared.observability.LatencyBreakdown;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Background relay draining the transactional outbox to Kafka.
+ * Each batch claims whole aggregates with SKIP LOCKED and sends their events asynchronously,
+ * one event per aggregate at a time, so the producer still batches across aggregates while
+ * each aggregate keeps its order. Only acknowledged events are deleted; an aggregate stops at
+ * its first failed send and its remaining events are retried, in order, on the next poll,
+ * giving at-least-once delivery.
+ * Claiming, publishing and deleting a batch are timed as stages of the latency breakdown.
+ */
+@Component
+@ConditionalOnProperty(prefix = "inventory.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final DomainEventOutboxRepositoryAdapter outboxRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryMetrics inventoryMetrics;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final LatencyBreakdown.Stage claimStage;
+    private final LatencyBreakdown.Stage publishStage;
+    private final LatencyBreakdown.Stage deleteStage;
+
+    public OutboxRelay(DomainEventOutboxRepositoryAdapter outboxRepository,
+                       DomainEventPublisher eventPublisher,
+                       PlatformTransactionManager transactionManager,
+                       InventoryMetrics inventoryMetrics,
+                       LatencyBreakdown latencyBreakdown,
+                       @Value("${inventory.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${inventory.outbox.relay.send-timeout:10s}") Duration sendTimeout) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inventoryMetrics = inventoryMetrics;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.claimStage = latencyBreakdown.stage("outbox-relay", "claim");
+        this.publishStage = latencyBreakdown.stage("outbox-relay", "publish");
+        this.deleteStage = latencyBreakdown.stage("outbox-relay", "delete");
+    }
+
+    /**
+     * Drain full batches back to back, then wait for the next poll.
+     */
+    @Scheduled(fixedDelayString = "${inventory.outbox.relay.poll-interval:200ms}")
+    public void relay() {
+        try {
+            while (relayBatch() >= batchSize) {
+                // Keep draining while the outbox yields full batches
+            }
+        } catch (Exception e) {
+            inventoryMetrics.recordOutboxPublishFailure();
+        }
+    }
+
+    private int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            long start = System.nanoTime();
+            List<OutboxRecord> batch = outboxRepository.claimBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            long mark = claimStage.record(null, start);
+
+            List<OutboxRecord> published = publishInOrder(batch);
+            mark = publishStage.record(null, mark);
+
+            if (!published.isEmpty()) {
+                outboxRepository.delete(published);
+                deleteStage.record(null, mark);
+
+                inventoryMetrics.recordOutboxBatchPublished(
+                    published.size(),
+                    Duration.between(published.get(0).createdAt(), Instant.now()),
+                    Duration.ofNanos(System.nanoTime() - start)
+                );
+            }
+            if (published.size() < batch.size()) {
+                // Deletes of the acknowledged events still commit; the rest wait for the next poll
+                inventoryMetrics.recordOutboxPublishFailure();
+            }
+            return published.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    /**
+     * Send the batch in rounds: each round sends the next event of every aggregate whose previous
+     * event was acknowledged and waits for the round. An aggregate whose send fails or times out
+     * is dropped from later rounds, so none of its events overtakes the failed one.
+     * Returns the acknowledged events.
+     */
+    private List<OutboxRecord> publishInOrder(List<OutboxRecord> batch) {
+        Map<String, Deque<OutboxRecord>> pending = new LinkedHashMap<>();
+        for (OutboxRecord record : batch) {
+            pending.computeIfAbsent(record.aggregateKey(), key -> new ArrayDeque<>()).add(record);
+        }
+
+        List<OutboxRecord> published = new ArrayList<>(batch.size());
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        while (!pending.isEmpty()) {
+            List<OutboxRecord> round = new ArrayList<>(pending.size());
+            List<CompletableFuture<?>> sends = new ArrayList<>(pending.size());
+            for (Deque<OutboxRecord> events : pending.values()) {
+                OutboxRecord record = events.poll();
+                round.add(record);
+                sends.add(send(record));
+            }
+
+            for (int i = 0; i < round.size(); i++) {
+                OutboxRecord record = round.get(i);
+                if (!acknowledged(sends.get(i), deadline)) {
+                    pending.remove(record.aggregateKey());
+                    continue;
+                }
+                published.add(record);
+                if (pending.get(record.aggregateKey()).isEmpty()) {
+                    pending.remove(record.aggregateKey());
+                }
+            }
+        }
+        return published;
+    }
+
+    private CompletableFuture<?> send(OutboxRecord record) {
+        try {
+            return eventPublisher.publishSerialized(record.eventType(), record.aggregateKey(), record.payload());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean acknowledged(CompletableFuture<?> send, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.enterprise.inventory.infrastructure.messaging;
+
+import com.enterprise.shared.domain.events.DomainEvent;
+import com.enterprise.shared.domain.events.InventoryAggregateEvent;
+
+/**
+ * How Kafka message keys are derived from events.
+ * The outbox stores each event's aggregate key when it is appended, and direct and relayed
+ * publishes both derive the message key from it here, so an event is keyed the same either way.
+ */
+public enum PartitionKeyStrategy {
+    /** storeId:sku, preserving order per inventory aggregate. */
+    AGGREGATE,
+    /** Event type name; every event of a type lands on one partition. */
+    EVENT_TYPE;
+
+    /**
+     * Ordering key of the aggregate an event belongs to: storeId:sku, or the event type
+     * for events outside an inventory aggregate.
+     */
+    public static String aggregateKeyOf(DomainEvent event) {
+        if (event instanceof InventoryAggregateEvent aggregateEvent) {
+            return aggregateEvent.getStoreId() + ":" + aggregateEvent.getProductSku();
+        }
+        return event.getEventType();
+    }
+
+    /**
+     * Message key for an event of the given type and aggregate key.
+     */
+    public String messageKey(String eventType, String aggregateKey) {
+        // Keying by aggregate spreads load across all partitions; by type, related events share one
+        return this == AGGREGATE ? aggregateKey : eventType;
+    }
+}
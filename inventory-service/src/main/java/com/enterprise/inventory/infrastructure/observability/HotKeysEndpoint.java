@@ -0,0 +1,81 @@
+package com.enterprise.inventory.infrastructure.observability;
+
+import com.enterprise.inventory.infrastructure.persistence.ContentionProfiler;
+import com.enterprise.inventory.infrastructure.persistence.ContentionProfiler.KeyContention;
+import com.enterprise.inventory.infrastructure.persistence.HotInventoryRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * /actuator/hot-keys: the most contended inventory rows by decayed conflicts, retries and lock
+ * waits; /actuator/hot-keys/{storeId} narrows them to one store.
+ */
+@Component
+@Endpoint(id = "hot-keys")
+public class HotKeysEndpoint {
+
+    private final ContentionProfiler contentionProfiler;
+    private final HotInventoryRegistry hotInventory;
+    private final int reportSize;
+
+    public HotKeysEndpoint(ContentionProfiler contentionProfiler,
+                           HotInventoryRegistry hotInventory,
+                           @Value("${inventory.contention.report-size:20}") int reportSize) {
+        this.contentionProfiler = contentionProfiler;
+        this.hotInventory = hotInventory;
+        this.reportSize = reportSize;
+    }
+
+    @ReadOperation
+    public Map<String, Object> hotKeys() {
+        Map<String, Object> report = header();
+        report.put("keys", describe(contentionProfiler.topKeys(reportSize)));
+        return report;
+    }
+
+    @ReadOperation
+    public Map<String, Object> storeHotKeys(@Selector UUID storeId) {
+        Map<String, Object> report = header();
+        report.put("storeId", storeId);
+        report.put("keys", describe(contentionProfiler.topKeys(Integer.MAX_VALUE).stream()
+            .filter(contention -> contention.key().storeId().equals(storeId))
+            .limit(reportSize)
+            .toList()));
+        return report;
+    }
+
+    private Map<String, Object> header() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("halfLife", contentionProfiler.getHalfLife().toString());
+        report.put("conflictRateThreshold", contentionProfiler.getConflictRateThreshold());
+        report.put("unattributedRetries", contentionProfiler.getUnattributedRetries());
+        return report;
+    }
+
+    private List<Map<String, Object>> describe(List<KeyContention> keys) {
+        return keys.stream().map(contention -> {
+            Map<String, Object> key = new LinkedHashMap<>();
+            key.put("storeId", contention.key().storeId());
+            key.put("productSku", contention.key().productSku().getValue());
+            key.put("score", contention.score());
+            key.put("error", contention.error());
+            key.put("writes", contention.writes());
+            key.put("conflicts", contention.conflicts());
+            key.put("conflictRate", contention.conflictRate());
+            key.put("retries", contention.retries());
+            key.put("lockWaits", contention.lockWaits());
+            key.put("meanLockWaitMillis", contention.meanLockWaitMillis());
+            key.put("aboveThreshold", contention.hot());
+            key.put("bucketed", hotInventory.isHot(contention.key()));
+            return key;
+        }).toList();
+    }
+}
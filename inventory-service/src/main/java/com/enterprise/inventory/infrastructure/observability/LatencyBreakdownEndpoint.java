@@ -0,0 +1,49 @@
+package com.enterprise.inventory.infrastructure.observability;
+
+import com.enterprise.shared.observability.LatencyBreakdown;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * /actuator/latency-breakdown: percentiles per stage of the reserve, commit and outbox relay
+ * paths across all stores; /actuator/latency-breakdown/{storeId} narrows them to one store.
+ */
+@Component
+@Endpoint(id = "latency-breakdown")
+public class LatencyBreakdownEndpoint {
+
+    private final LatencyBreakdown latencyBreakdown;
+    private final Duration window;
+
+    public LatencyBreakdownEndpoint(LatencyBreakdown latencyBreakdown,
+                                    @Value("${inventory.latency-breakdown.window:1m}") Duration window) {
+        this.latencyBreakdown = latencyBreakdown;
+        this.window = window;
+    }
+
+    @ReadOperation
+    public Map<String, Object> latencyBreakdown() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("window", window.toString());
+        report.put("maxStores", latencyBreakdown.getMaxStores());
+        report.put("stages", latencyBreakdown.report());
+        return report;
+    }
+
+    @ReadOperation
+    public Map<String, Object> storeLatencyBreakdown(@Selector UUID storeId) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("window", window.toString());
+        report.put("storeId", storeId);
+        report.put("stages", latencyBreakdown.report(storeId));
+        return report;
+    }
+}
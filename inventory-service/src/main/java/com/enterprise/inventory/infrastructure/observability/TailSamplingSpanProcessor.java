@@ -0,0 +1,154 @@
+package com.enterprise.inventory.infrastructure.observability;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.EventData;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process tail sampling in front of the exporting span processor.
+ * Ended spans are held per trace until the local root span (the first span of the trace in
+ * this process) ends; the trace is then exported only if that root took at least the latency
+ * threshold or any of its spans failed, and dropped otherwise. The decision covers the spans of
+ * this process only; other services sample their part of the trace on their own.
+ *
+ * Memory is bounded: at most maxTraces traces are buffered, new traces beyond that are dropped,
+ * and buffers whose root never ends here are discarded after maxTraceAge.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final SpanProcessor delegate;
+    private final long latencyThresholdNanos;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final long maxTraceAgeNanos;
+    private final Map<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, Duration latencyThreshold, int maxTraces,
+                                     int maxSpansPerTrace, Duration maxTraceAge) {
+        this.delegate = delegate;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxTraces = maxTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.maxTraceAgeNanos = maxTraceAge.toNanos();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        String traceId = span.getSpanContext().getTraceId();
+
+        if (isLocalRoot(span)) {
+            TraceBuffer buffer = traces.remove(traceId);
+            boolean keep = span.getLatencyNanos() >= latencyThresholdNanos
+                || failed(span)
+                || (buffer != null && buffer.failed);
+            if (keep) {
+                if (buffer != null) {
+                    buffer.drainTo(delegate);
+                }
+                delegate.onEnd(span);
+            }
+            return;
+        }
+
+        sweepIfDue();
+        TraceBuffer buffer = traces.get(traceId);
+        if (buffer == null) {
+            if (traces.size() >= maxTraces) {
+                return;
+            }
+            buffer = traces.computeIfAbsent(traceId, id -> new TraceBuffer(System.nanoTime()));
+        }
+        buffer.add(span, failed(span), maxSpansPerTrace);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        traces.clear();
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private static boolean failed(ReadableSpan span) {
+        var data = span.toSpanData();
+        if (data.getStatus().getStatusCode() == StatusCode.ERROR) {
+            return true;
+        }
+        for (EventData event : data.getEvents()) {
+            if ("exception".equals(event.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sweepIfDue() {
+        long now = System.nanoTime();
+        long due = nextSweep.get();
+        if (now - due >= 0 && nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            traces.values().removeIf(buffer -> now - buffer.startedAt > maxTraceAgeNanos);
+        }
+    }
+
+    private static final class TraceBuffer {
+        private final long startedAt;
+        private final List<ReadableSpan> spans = new ArrayList<>();
+        private volatile boolean failed;
+
+        private TraceBuffer(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        synchronized void add(ReadableSpan span, boolean spanFailed, int maxSpans) {
+            if (spanFailed) {
+                failed = true;
+            }
+            if (spans.size() < maxSpans) {
+                spans.add(span);
+            }
+        }
+
+        synchronized void drainTo(SpanProcessor processor) {
+            spans.forEach(processor::onEnd);
+            spans.clear();
+        }
+    }
+}
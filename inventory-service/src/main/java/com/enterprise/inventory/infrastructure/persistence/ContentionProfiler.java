@@ -0,0 +1,385 @@
+package com.enterprise.inventory.infrastructure.persistence;
+
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.shared.observability.InventoryMetrics;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-row contention profile: optimistic-lock conflicts, retries and lock waits.
+ * Rows are ranked in a Space-Saving summary with a fixed number of counters, so memory does not
+ * grow with the catalog. Every count decays exponentially with the configured half-life, which
+ * keeps the ranking on recent contention: increments are scaled up by the time since a landmark
+ * instead of decaying every counter, and the landmark moves forward before the scale overflows.
+ *
+ * Only conflicts, retries and lock waits take the lock. A successful write is counted lock-free,
+ * and only for rows already in the summary: a row's writes count from its first conflict or lock
+ * wait, and they are weighted when next folded in, by the next conflict on the row or a read of
+ * the profile. Rows that never contend stay out of the summary entirely.
+ *
+ * A retry is attributed to the row whose conflict or lock wait was last recorded on the retrying
+ * thread. A row whose decayed conflict rate crosses the threshold is reported once through
+ * InventoryMetrics, and again only after its rate has fallen below half the threshold.
+ */
+@Component
+public class ContentionProfiler {
+
+    private static final String[] RETRIED_OPERATIONS = {"stock-reservation", "stock-commit"};
+    private static final double MAX_SCALE_EXPONENT = 64;
+
+    private final InventoryMetrics inventoryMetrics;
+    private final long halfLifeNanos;
+    private final double conflictRateThreshold;
+    private final double minimumWrites;
+    private final long lockWaitThresholdNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<InventoryKey, Entry> entries;
+    private final Entry[] heap;
+    private int size;
+    private long landmark = System.nanoTime();
+
+    private final ThreadLocal<InventoryKey> lastContendedKey = new ThreadLocal<>();
+    private final LongAdder unattributedRetries = new LongAdder();
+
+    public ContentionProfiler(InventoryMetrics inventoryMetrics,
+                              RetryRegistry retryRegistry,
+                              @Value("${inventory.contention.tracked-keys:1000}") int trackedKeys,
+                              @Value("${inventory.contention.half-life:5m}") Duration halfLife,
+                              @Value("${inventory.contention.conflict-rate-threshold:0.2}") double conflictRateThreshold,
+                              @Value("${inventory.contention.minimum-writes:20}") double minimumWrites,
+                              @Value("${inventory.contention.lock-wait-threshold:20ms}") Duration lockWaitThreshold) {
+        this.inventoryMetrics = inventoryMetrics;
+        this.halfLifeNanos = halfLife.toNanos();
+        this.conflictRateThreshold = conflictRateThreshold;
+        this.minimumWrites = minimumWrites;
+        this.lockWaitThresholdNanos = lockWaitThreshold.toNanos();
+        this.heap = new Entry[Math.max(1, trackedKeys)];
+        this.entries = new ConcurrentHashMap<>(heap.length * 2);
+
+        for (String operation : RETRIED_OPERATIONS) {
+            retryRegistry.retry(operation).getEventPublisher().onRetry(event -> recordRetry());
+        }
+    }
+
+    /**
+     * Record the outcome of an optimistic write to one inventory row.
+     */
+    public void recordWrite(InventoryKey key, boolean conflicted) {
+        if (!conflicted) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                entry.pendingWrites.increment();
+            }
+            return;
+        }
+
+        boolean crossed;
+        lock.lock();
+        try {
+            double weight = weightNow();
+            Entry entry = entry(key);
+            foldPendingWrites(entry, weight);
+            entry.writes += weight;
+            entry.conflicts += weight;
+            bump(entry, weight);
+            crossed = updateHot(entry, weight);
+        } finally {
+            lock.unlock();
+        }
+
+        lastContendedKey.set(key);
+        if (crossed) {
+            inventoryMetrics.recordContendedKey(key.storeId());
+        }
+    }
+
+    /**
+     * Record the time a locking statement on the row took; only waits above the threshold count.
+     */
+    public void recordLockWait(InventoryKey key, long nanos) {
+        if (nanos < lockWaitThresholdNanos) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            double weight = weightNow();
+            Entry entry = entry(key);
+            entry.lockWaits += weight;
+            entry.lockWaitNanos += weight * nanos;
+            bump(entry, weight);
+        } finally {
+            lock.unlock();
+        }
+        lastContendedKey.set(key);
+    }
+
+    /**
+     * The most contended rows, highest decayed score (conflicts + retries + lock waits) first.
+     */
+    public List<KeyContention> topKeys(int limit) {
+        List<KeyContention> keys = new ArrayList<>();
+        List<InventoryKey> crossed = new ArrayList<>();
+        lock.lock();
+        try {
+            double scale = weightNow();
+            for (int i = 0; i < size; i++) {
+                Entry entry = heap[i];
+                foldPendingWrites(entry, scale, crossed);
+                keys.add(new KeyContention(
+                    entry.key,
+                    entry.score / scale,
+                    entry.error / scale,
+                    entry.writes / scale,
+                    entry.conflicts / scale,
+                    entry.writes > 0 ? entry.conflicts / entry.writes : 0.0,
+                    entry.retries / scale,
+                    entry.lockWaits / scale,
+                    entry.lockWaits > 0 ? entry.lockWaitNanos / entry.lockWaits / TimeUnit.MILLISECONDS.toNanos(1) : 0.0,
+                    entry.hot));
+            }
+        } finally {
+            lock.unlock();
+        }
+        reportCrossed(crossed);
+        keys.sort(Comparator.comparingDouble(KeyContention::score).reversed());
+        return keys.subList(0, Math.min(limit, keys.size()));
+    }
+
+    /**
+     * Rows whose decayed conflict rate is above the threshold, after folding in their writes.
+     */
+    public List<InventoryKey> contendedKeys() {
+        List<InventoryKey> contended = new ArrayList<>();
+        List<InventoryKey> crossed = new ArrayList<>();
+        lock.lock();
+        try {
+            double weight = weightNow();
+            for (int i = 0; i < size; i++) {
+                Entry entry = heap[i];
+                foldPendingWrites(entry, weight, crossed);
+                if (entry.hot) {
+                    contended.add(entry.key);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        reportCrossed(crossed);
+        return contended;
+    }
+
+    public long getUnattributedRetries() {
+        return unattributedRetries.sum();
+    }
+
+    public Duration getHalfLife() {
+        return Duration.ofNanos(halfLifeNanos);
+    }
+
+    public double getConflictRateThreshold() {
+        return conflictRateThreshold;
+    }
+
+    private void recordRetry() {
+        InventoryKey key = lastContendedKey.get();
+        lastContendedKey.remove();
+        if (key == null) {
+            unattributedRetries.increment();
+            return;
+        }
+
+        lock.lock();
+        try {
+            double weight = weightNow();
+            Entry entry = entry(key);
+            entry.retries += weight;
+            bump(entry, weight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Weight of an event now, relative to the landmark; moves the landmark forward (rescaling
+     * every entry) before the weight can overflow.
+     */
+    private double weightNow() {
+        long now = System.nanoTime();
+        double exponent = (double) (now - landmark) / halfLifeNanos;
+        if (exponent > MAX_SCALE_EXPONENT) {
+            long halvings = (long) exponent;
+            double factor = Math.pow(2, -halvings);
+            for (int i = 0; i < size; i++) {
+                heap[i].rescale(factor);
+            }
+            landmark += halvings * halfLifeNanos;
+            exponent -= halvings;
+        }
+        return Math.pow(2, exponent);
+    }
+
+    /**
+     * Space-Saving admission: a free counter, or the lowest-scored one, whose score the new row
+     * inherits as its possible overestimate.
+     */
+    private Entry entry(InventoryKey key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+
+        if (size < heap.length) {
+            entry = new Entry(key, 0);
+            entry.heapIndex = size;
+            heap[size++] = entry;
+            siftUp(entry.heapIndex);
+        } else {
+            Entry evicted = heap[0];
+            entries.remove(evicted.key);
+            entry = new Entry(key, evicted.score);
+            entry.heapIndex = 0;
+            heap[0] = entry;
+        }
+        entries.put(key, entry);
+        return entry;
+    }
+
+    private void foldPendingWrites(Entry entry, double weight) {
+        long pending = entry.pendingWrites.sumThenReset();
+        if (pending > 0) {
+            entry.writes += pending * weight;
+        }
+    }
+
+    /**
+     * Fold in the row's writes and re-check its rate; more writes can also carry a row past
+     * minimum-writes while its rate is still above the threshold.
+     */
+    private void foldPendingWrites(Entry entry, double weight, List<InventoryKey> crossed) {
+        foldPendingWrites(entry, weight);
+        if (updateHot(entry, weight)) {
+            crossed.add(entry.key);
+        }
+    }
+
+    private void reportCrossed(List<InventoryKey> crossed) {
+        crossed.forEach(key -> inventoryMetrics.recordContendedKey(key.storeId()));
+    }
+
+    private void bump(Entry entry, double weight) {
+        entry.score += weight;
+        siftDown(entry.heapIndex);
+    }
+
+    private boolean updateHot(Entry entry, double weight) {
+        if (entry.writes < minimumWrites * weight) {
+            return false;
+        }
+        double rate = entry.conflicts / entry.writes;
+        if (!entry.hot && rate >= conflictRateThreshold) {
+            entry.hot = true;
+            return true;
+        }
+        if (entry.hot && rate < conflictRateThreshold / 2) {
+            entry.hot = false;
+        }
+        return false;
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap[parent].score <= entry.score) {
+                break;
+            }
+            heap[index] = heap[parent];
+            heap[index].heapIndex = index;
+            index = parent;
+        }
+        heap[index] = entry;
+        entry.heapIndex = index;
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].score < heap[child].score) {
+                child++;
+            }
+            if (heap[child].score >= entry.score) {
+                break;
+            }
+            heap[index] = heap[child];
+            heap[index].heapIndex = index;
+            index = child;
+        }
+        heap[index] = entry;
+        entry.heapIndex = index;
+    }
+
+    private static final class Entry {
+        private final InventoryKey key;
+        private final LongAdder pendingWrites = new LongAdder();
+        private double error;
+        private double score;
+        private double writes;
+        private double conflicts;
+        private double retries;
+        private double lockWaits;
+        private double lockWaitNanos;
+        private boolean hot;
+        private int heapIndex;
+
+        private Entry(InventoryKey key, double inheritedScore) {
+            this.key = key;
+            this.error = inheritedScore;
+            this.score = inheritedScore;
+        }
+
+        private void rescale(double factor) {
+            error *= factor;
+            score *= factor;
+            writes *= factor;
+            conflicts *= factor;
+            retries *= factor;
+            lockWaits *= factor;
+            lockWaitNanos *= factor;
+        }
+    }
+
+    /**
+     * Decayed counts of one row. score and its overestimate bound error rank the rows; the
+     * conflict rate and mean lock wait are ratios of decayed counts.
+     */
+    public record KeyContention(
+        InventoryKey key,
+        double score,
+        double error,
+        double writes,
+        double conflicts,
+        double conflictRate,
+        double retries,
+        double lockWaits,
+        double meanLockWaitMillis,
+        boolean hot
+    ) {}
+}
@@ -0,0 +1,122 @@
+package com.enterprise.inventory.infrastructure.persistence;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.repository.DomainEventOutboxRepository;
+import com.enterprise.inventory.infrastructure.messaging.PartitionKeyStrategy;
+import com.enterprise.shared.domain.events.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC adapter for the event outbox table.
+ * Appends join the caller's transaction; the relay claims whole aggregates with SKIP LOCKED so
+ * several replicas can drain the outbox concurrently without blocking each other, while the
+ * events of one aggregate are only ever drained by one of them, in order.
+ */
+@Component
+public class DomainEventOutboxRepositoryAdapter implements DomainEventOutboxRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO event_outbox (event_id, aggregate_key, event_type, payload, occurred_on)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    /**
+     * An aggregate is claimed by locking its oldest row. Rows behind a locked or older row are
+     * never heads, so a replica skips aggregates another replica is draining instead of
+     * publishing their later events out of order.
+     */
+    private static final String CLAIM_BATCH_SQL = """
+        SELECT id, aggregate_key, event_type, payload, created_at
+          FROM event_outbox
+         WHERE aggregate_key IN (
+                SELECT head.aggregate_key
+                  FROM event_outbox head
+                 WHERE NOT EXISTS (
+                        SELECT 1
+                          FROM event_outbox older
+                         WHERE older.aggregate_key = head.aggregate_key
+                           AND older.id < head.id
+                       )
+                 ORDER BY head.id
+                 LIMIT ?
+                   FOR UPDATE SKIP LOCKED
+               )
+         ORDER BY id
+         LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventOutboxRepositoryAdapter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void append(Inventory inventory) {
+        append(inventory.getDomainEvents());
+    }
+
+    @Override
+    public void append(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            rows.add(new Object[] {
+                event.getEventId(), PartitionKeyStrategy.aggregateKeyOf(event), event.getEventType(),
+                serialize(event), Timestamp.from(event.getOccurredOn())
+            });
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * Claim the oldest unpublished events of up to batchSize aggregates, in insertion order.
+     * Must run inside a transaction that deletes the rows once they are published; the
+     * claimed aggregates stay locked until it ends.
+     */
+    public List<OutboxRecord> claimBatch(int batchSize) {
+        return jdbcTemplate.query(CLAIM_BATCH_SQL, (rs, rowNum) -> new OutboxRecord(
+            rs.getLong("id"),
+            rs.getString("aggregate_key"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toInstant()
+        ), batchSize, batchSize);
+    }
+
+    /**
+     * Remove published events.
+     */
+    public void delete(List<OutboxRecord> records) {
+        Long[] ids = records.stream().map(OutboxRecord::id).toArray(Long[]::new);
+        jdbcTemplate.update("DELETE FROM event_outbox WHERE id = ANY(?)",
+            (Object) ids);
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event: " + event.getEventType(), e);
+        }
+    }
+
+    /**
+     * Outbox row claimed by the relay.
+     */
+    public record OutboxRecord(long id, String aggregateKey, String eventType, String payload, Instant createdAt) {}
+}
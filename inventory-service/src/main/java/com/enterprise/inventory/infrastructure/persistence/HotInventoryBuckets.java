@@ -0,0 +1,422 @@
+package com.enterprise.inventory.infrastructure.persistence;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * SQL operations on the stock buckets of hot SKUs.
+ * A hot inventory row parks most of its available stock in K bucket rows; reservations
+ * decrement a randomly chosen bucket, so concurrent reservations for one SKU lock different
+ * rows instead of queueing on the inventory row and its version.
+ *
+ * Lock order is always buckets first, then the inventory row. Rebalancing and demotion run on
+ * one replica at a time, elected with an advisory lock.
+ */
+@Component
+class HotInventoryBuckets {
+
+    private static final String HOT_KEYS_SQL = """
+        SELECT DISTINCT store_id, product_sku
+          FROM inventory_stock_buckets
+        """;
+
+    /**
+     * Session-level advisory lock electing the one replica that rebalances and demotes.
+     */
+    private static final String TRY_MAINTENANCE_LOCK_SQL =
+        "SELECT pg_try_advisory_lock(hashtext('inventory_stock_buckets.maintenance'))";
+
+    private static final String MAINTENANCE_UNLOCK_SQL =
+        "SELECT pg_advisory_unlock(hashtext('inventory_stock_buckets.maintenance'))";
+
+    private static final String RESERVATION_COUNTS_SQL = """
+        SELECT store_id, product_sku, SUM(reservations) AS reservations
+          FROM inventory_stock_buckets
+         GROUP BY store_id, product_sku
+        """;
+
+    /**
+     * A key is worth rebalancing when its row holds at least a unit per bucket to hand out, or
+     * its fullest bucket holds more than twice its emptiest. Plain read, no locks.
+     */
+    private static final String SKEWED_SQL = """
+        SELECT i.available_quantity >= COUNT(*)
+               OR MAX(b.available_quantity) > 2 * MIN(b.available_quantity) + 1 AS skewed
+          FROM inventory i
+          JOIN inventory_stock_buckets b ON b.store_id = i.store_id AND b.product_sku = i.product_sku
+         WHERE i.store_id = :storeId
+           AND i.product_sku = :productSku
+         GROUP BY i.id
+        """;
+
+    /**
+     * Runs after a fold in the same transaction, which already returned the bucket stock to the row.
+     */
+    private static final String DEMOTE_SQL = """
+        DELETE FROM inventory_stock_buckets
+         WHERE store_id = :storeId
+           AND product_sku = :productSku
+        """;
+
+    private static final String PROMOTE_SQL = """
+        INSERT INTO inventory_stock_buckets (store_id, product_sku, bucket_no)
+        SELECT store_id, product_sku, bucket_no
+          FROM inventory, generate_series(0, :bucketCount - 1) AS bucket_no
+         WHERE store_id = :storeId
+           AND product_sku = :productSku
+        ON CONFLICT DO NOTHING
+        """;
+
+    /**
+     * Reserves from the first bucket with enough stock, scanning from a random start and
+     * skipping buckets locked by concurrent reservations. Totals are computed from the
+     * statement snapshot and adjusted for this reservation. The inventory row is not written,
+     * so the returned version is unchanged and cannot order this state against other writes.
+     */
+    private static final String RESERVE_SQL = """
+        WITH bucket AS (
+            UPDATE inventory_stock_buckets b
+               SET available_quantity = b.available_quantity - :quantity,
+                   reserved_quantity = b.reserved_quantity + :quantity,
+                   reservations = b.reservations + 1
+             WHERE (b.store_id, b.product_sku, b.bucket_no) = (
+                    SELECT store_id, product_sku, bucket_no
+                      FROM inventory_stock_buckets
+                     WHERE store_id = :storeId
+                       AND product_sku = :productSku
+                       AND available_quantity >= :quantity
+                     ORDER BY (bucket_no + :offset) % :bucketCount
+                     LIMIT 1
+                       FOR UPDATE SKIP LOCKED
+                   )
+               AND b.available_quantity >= :quantity
+            RETURNING b.store_id, b.product_sku
+        ), reservation AS (
+            INSERT INTO stock_reservations (reservation_id, store_id, product_sku, quantity,
+                                            reason, status, created_at, expires_at)
+            SELECT :reservationId, store_id, product_sku, :quantity, :reason, 'ACTIVE',
+                   :createdAt, :expiresAt
+              FROM bucket
+        ), totals AS (
+            SELECT COALESCE(SUM(available_quantity), 0) AS available,
+                   COALESCE(SUM(reserved_quantity), 0) AS reserved
+              FROM inventory_stock_buckets
+             WHERE store_id = :storeId
+               AND product_sku = :productSku
+        )
+        SELECT i.id, i.store_id, i.product_sku,
+               i.available_quantity + t.available - :quantity AS available_quantity,
+               i.reserved_quantity + t.reserved + :quantity AS reserved_quantity,
+               i.committed_quantity, i.last_updated, i.version
+          FROM bucket b
+          JOIN inventory i ON i.store_id = b.store_id AND i.product_sku = b.product_sku
+         CROSS JOIN totals t
+        """;
+
+    /**
+     * Moves everything held by the buckets back onto the inventory row. The version only
+     * moves when stock actually moved, so idle folds do not fail concurrent optimistic writers,
+     * and by :versionStep, so a rebalance can move it once for its fold and distribution.
+     */
+    private static final String FOLD_SQL = """
+        WITH old AS (
+            SELECT bucket_no, available_quantity, reserved_quantity
+              FROM inventory_stock_buckets
+             WHERE store_id = :storeId
+               AND product_sku = :productSku
+             ORDER BY bucket_no
+               FOR UPDATE
+        ), drained AS (
+            UPDATE inventory_stock_buckets b
+               SET available_quantity = 0,
+                   reserved_quantity = 0
+              FROM old
+             WHERE b.store_id = :storeId
+               AND b.product_sku = :productSku
+               AND b.bucket_no = old.bucket_no
+               AND (old.available_quantity > 0 OR old.reserved_quantity > 0)
+            RETURNING old.available_quantity, old.reserved_quantity
+        )
+        UPDATE inventory
+           SET available_quantity = available_quantity + (SELECT COALESCE(SUM(available_quantity), 0) FROM drained),
+               reserved_quantity = reserved_quantity + (SELECT COALESCE(SUM(reserved_quantity), 0) FROM drained),
+               last_updated = NOW(),
+               version = version + :versionStep
+         WHERE store_id = :storeId
+           AND product_sku = :productSku
+           AND EXISTS (SELECT 1 FROM drained)
+        """;
+
+    /**
+     * Moves only the reserved stock held by the buckets onto the row, leaving their available
+     * stock in place. Locks just the buckets that hold reserved stock.
+     */
+    private static final String FOLD_RESERVED_SQL = """
+        WITH old AS (
+            SELECT bucket_no, reserved_quantity
+              FROM inventory_stock_buckets
+             WHERE store_id = :storeId
+               AND product_sku = :productSku
+               AND reserved_quantity > 0
+             ORDER BY bucket_no
+               FOR UPDATE
+        ), drained AS (
+            UPDATE inventory_stock_buckets b
+               SET reserved_quantity = 0
+              FROM old
+             WHERE b.store_id = :storeId
+               AND b.product_sku = :productSku
+               AND b.bucket_no = old.bucket_no
+               AND old.reserved_quantity > 0
+            RETURNING old.reserved_quantity
+        )
+        UPDATE inventory
+           SET reserved_quantity = reserved_quantity + (SELECT COALESCE(SUM(reserved_quantity), 0) FROM drained),
+               last_updated = NOW(),
+               version = version + 1
+         WHERE store_id = :storeId
+           AND product_sku = :productSku
+           AND EXISTS (SELECT 1 FROM drained)
+        """;
+
+    /**
+     * Spreads the row's available stock evenly across the buckets; the remainder stays on
+     * the row. Runs after a fold in the same transaction, with the buckets already locked,
+     * and moves the version by :versionStep.
+     */
+    private static final String DISTRIBUTE_SQL = """
+        WITH share AS (
+            SELECT i.available_quantity / COUNT(b.bucket_no) AS per_bucket
+              FROM inventory i
+              JOIN inventory_stock_buckets b ON b.store_id = i.store_id AND b.product_sku = i.product_sku
+             WHERE i.store_id = :storeId
+               AND i.product_sku = :productSku
+             GROUP BY i.id
+        ), filled AS (
+            UPDATE inventory_stock_buckets b
+               SET available_quantity = b.available_quantity + share.per_bucket
+              FROM share
+             WHERE b.store_id = :storeId
+               AND b.product_sku = :productSku
+               AND share.per_bucket > 0
+            RETURNING share.per_bucket
+        )
+        UPDATE inventory
+           SET available_quantity = available_quantity - (SELECT COALESCE(SUM(per_bucket), 0) FROM filled),
+               last_updated = NOW(),
+               version = version + :versionStep
+         WHERE store_id = :storeId
+           AND product_sku = :productSku
+           AND EXISTS (SELECT 1 FROM filled)
+        """;
+
+    private static final String STOCK_LEVEL_SQL = """
+        SELECT i.id, i.store_id, i.product_sku,
+               i.available_quantity + COALESCE(SUM(b.available_quantity), 0) AS available_quantity,
+               i.reserved_quantity + COALESCE(SUM(b.reserved_quantity), 0) AS reserved_quantity,
+               i.committed_quantity, i.last_updated, i.version
+          FROM inventory i
+          LEFT JOIN inventory_stock_buckets b ON b.store_id = i.store_id AND b.product_sku = i.product_sku
+         WHERE i.store_id = :storeId
+           AND i.product_sku = :productSku
+         GROUP BY i.id
+        """;
+
+    private static final String BUCKET_TOTALS_SQL = """
+        SELECT store_id, product_sku,
+               SUM(available_quantity) AS available_quantity,
+               SUM(reserved_quantity) AS reserved_quantity
+          FROM inventory_stock_buckets
+         WHERE (store_id, product_sku) IN (:keys)
+         GROUP BY store_id, product_sku
+        """;
+
+    private static final RowMapper<InventoryKey> KEY_ROW_MAPPER = (rs, rowNum) -> new InventoryKey(
+        rs.getObject("store_id", UUID.class),
+        ProductSku.of(rs.getString("product_sku"))
+    );
+
+    private static final RowMapper<Inventory> INVENTORY_ROW_MAPPER = (rs, rowNum) -> new Inventory(
+        rs.getObject("id", UUID.class),
+        rs.getObject("store_id", UUID.class),
+        ProductSku.of(rs.getString("product_sku")),
+        Quantity.of(rs.getInt("available_quantity")),
+        Quantity.of(rs.getInt("reserved_quantity")),
+        Quantity.of(rs.getInt("committed_quantity")),
+        rs.getTimestamp("last_updated").toInstant(),
+        rs.getLong("version")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    HotInventoryBuckets(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    Set<InventoryKey> findHotKeys() {
+        return Set.copyOf(jdbcTemplate.query(HOT_KEYS_SQL, KEY_ROW_MAPPER));
+    }
+
+    /**
+     * Bucket reservations per hot key since promotion, summed over its buckets.
+     */
+    Map<InventoryKey, Long> findReservationCounts() {
+        Map<InventoryKey, Long> counts = new HashMap<>();
+        jdbcTemplate.query(RESERVATION_COUNTS_SQL, rs -> {
+            counts.put(KEY_ROW_MAPPER.mapRow(rs, 0), rs.getLong("reservations"));
+        });
+        return counts;
+    }
+
+    /**
+     * Run the task while holding the maintenance lock, on a connection set aside for the
+     * duration; the task's own transactions use other connections. Returns false without
+     * running it when another replica holds the lock.
+     */
+    boolean whileMaintenanceLockHeld(Runnable task) {
+        Boolean ran = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection -> {
+            try (Statement statement = connection.createStatement();
+                 ResultSet acquired = statement.executeQuery(TRY_MAINTENANCE_LOCK_SQL)) {
+                if (!acquired.next() || !acquired.getBoolean(1)) {
+                    return false;
+                }
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(MAINTENANCE_UNLOCK_SQL);
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    boolean isSkewed(InventoryKey key) {
+        return jdbcTemplate.query(SKEWED_SQL, keyParameters(key), (rs, rowNum) -> rs.getBoolean("skewed"))
+            .stream()
+            .findFirst()
+            .orElse(false);
+    }
+
+    void promote(InventoryKey key, int bucketCount) {
+        jdbcTemplate.update(PROMOTE_SQL, keyParameters(key).addValue("bucketCount", bucketCount));
+    }
+
+    /**
+     * Reserve from one bucket and insert the reservation in the same statement.
+     * Empty when no unlocked bucket has enough stock.
+     */
+    Optional<Inventory> reserve(StockReservation reservation, int bucketCount) {
+        var params = new MapSqlParameterSource()
+            .addValue("storeId", reservation.getStoreId())
+            .addValue("productSku", reservation.getProductSku().getValue())
+            .addValue("quantity", reservation.getQuantity().getValue())
+            .addValue("offset", ThreadLocalRandom.current().nextInt(bucketCount))
+            .addValue("bucketCount", bucketCount)
+            .addValue("reservationId", reservation.getReservationId())
+            .addValue("reason", reservation.getReason())
+            .addValue("createdAt", Timestamp.from(reservation.getCreatedAt()))
+            .addValue("expiresAt", Timestamp.from(reservation.getExpiresAt()));
+
+        return jdbcTemplate.query(RESERVE_SQL, params, INVENTORY_ROW_MAPPER).stream().findFirst();
+    }
+
+    void fold(InventoryKey key) {
+        jdbcTemplate.update(FOLD_SQL, keyParameters(key).addValue("versionStep", 1));
+    }
+
+    void foldReserved(InventoryKey key) {
+        jdbcTemplate.update(FOLD_RESERVED_SQL, keyParameters(key));
+    }
+
+    /**
+     * Fold and redistribute; reserved stock ends up on the row, available stock in the buckets.
+     * The version moves once, in whichever of the two statements first moves stock.
+     * Must run in a transaction.
+     */
+    void rebalance(InventoryKey key) {
+        int folded = jdbcTemplate.update(FOLD_SQL, keyParameters(key).addValue("versionStep", 1));
+        jdbcTemplate.update(DISTRIBUTE_SQL, keyParameters(key).addValue("versionStep", folded > 0 ? 0 : 1));
+    }
+
+    /**
+     * Return all bucket stock to the row and drop the buckets, leaving hot-key mode.
+     * Must run in a transaction.
+     */
+    void demote(InventoryKey key) {
+        fold(key);
+        jdbcTemplate.update(DEMOTE_SQL, keyParameters(key));
+    }
+
+    Optional<Inventory> findStockLevel(InventoryKey key) {
+        return jdbcTemplate.query(STOCK_LEVEL_SQL, keyParameters(key), INVENTORY_ROW_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * Add the bucket totals to inventories read from the row alone.
+     */
+    List<Inventory> withBucketTotals(List<Inventory> inventories, Set<InventoryKey> hotKeys) {
+        List<Object[]> tuples = inventories.stream()
+            .map(inventory -> new InventoryKey(inventory.getStoreId(), inventory.getProductSku()))
+            .filter(hotKeys::contains)
+            .distinct()
+            .map(key -> new Object[] {key.storeId(), key.productSku().getValue()})
+            .collect(Collectors.toList());
+        if (tuples.isEmpty()) {
+            return inventories;
+        }
+
+        Map<InventoryKey, int[]> totals = new HashMap<>();
+        jdbcTemplate.query(BUCKET_TOTALS_SQL, new MapSqlParameterSource("keys", tuples), rs -> {
+            totals.put(KEY_ROW_MAPPER.mapRow(rs, 0),
+                new int[] {rs.getInt("available_quantity"), rs.getInt("reserved_quantity")});
+        });
+
+        return inventories.stream()
+            .map(inventory -> {
+                int[] bucketTotals = totals.get(new InventoryKey(inventory.getStoreId(), inventory.getProductSku()));
+                if (bucketTotals == null) {
+                    return inventory;
+                }
+                return new Inventory(
+                    inventory.getId(),
+                    inventory.getStoreId(),
+                    inventory.getProductSku(),
+                    Quantity.of(inventory.getAvailableQuantity().getValue() + bucketTotals[0]),
+                    Quantity.of(inventory.getReservedQuantity().getValue() + bucketTotals[1]),
+                    inventory.getCommittedQuantity(),
+                    inventory.getLastUpdated(),
+                    inventory.getVersion()
+                );
+            })
+            .collect(Collectors.toList());
+    }
+
+    private static MapSqlParameterSource keyParameters(InventoryKey key) {
+        return new MapSqlParameterSource()
+            .addValue("storeId", key.storeId())
+            .addValue("productSku", key.productSku().getValue());
+    }
+}
@@ -0,0 +1,181 @@
+package com.enterprise.inventory.infrastructure.persistence;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Manages hot-key mode. Rows the ContentionProfiler reports above its conflict-rate threshold
+ * (inventory.contention.*) are promoted to striped stock buckets at each evaluation. The set of hot keys lives in the database, so every
+ * replica routes reservations for a promoted SKU to its buckets after the next refresh.
+ *
+ * Rebalancing and demotion run on one replica, elected per run with an advisory lock. Buckets
+ * stop conflicts, so the conflict rate of a promoted row decays however busy it still is; a key
+ * is demoted instead once its bucket reservations, counted in the buckets across all replicas,
+ * fall below inventory.hot-keys.demote-below-rate.
+ */
+@Component
+public class HotInventoryRegistry {
+
+    private final HotInventoryBuckets buckets;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryMetrics inventoryMetrics;
+    private final ContentionProfiler contentionProfiler;
+    private final boolean enabled;
+    private final int bucketCount;
+    private final double demoteBelowRate;
+
+    private volatile Set<InventoryKey> hotKeys = Set.of();
+
+    // Reservation counts at the previous demotion check; only touched under the maintenance lock
+    private Map<InventoryKey, Long> previousReservationCounts = Map.of();
+    private long previousCheckNanos;
+
+    public HotInventoryRegistry(HotInventoryBuckets buckets,
+                                PlatformTransactionManager transactionManager,
+                                InventoryMetrics inventoryMetrics,
+                                ContentionProfiler contentionProfiler,
+                                @Value("${inventory.hot-keys.enabled:false}") boolean enabled,
+                                @Value("${inventory.hot-keys.buckets:8}") int bucketCount,
+                                @Value("${inventory.hot-keys.demote-below-rate:5}") double demoteBelowRate) {
+        this.buckets = buckets;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inventoryMetrics = inventoryMetrics;
+        this.contentionProfiler = contentionProfiler;
+        this.enabled = enabled;
+        this.bucketCount = bucketCount;
+        this.demoteBelowRate = demoteBelowRate;
+    }
+
+    public boolean isHot(InventoryKey key) {
+        return enabled && hotKeys.contains(key);
+    }
+
+    /**
+     * Serve a reservation from a random bucket. Empty when no bucket can cover it,
+     * in which case the caller falls back to the inventory row.
+     */
+    Optional<Inventory> reserve(StockReservation reservation) {
+        return buckets.reserve(reservation, bucketCount);
+    }
+
+    /**
+     * Move bucket stock back onto the row before it is loaded for a read-modify-write.
+     */
+    void foldIfHot(InventoryKey key) {
+        if (isHot(key)) {
+            buckets.fold(key);
+        }
+    }
+
+    /**
+     * Move only reserved bucket stock onto the row, for commits and releases. Available stock
+     * stays in the buckets, so concurrent reservations keep being served from them.
+     */
+    void foldReservedIfHot(InventoryKey key) {
+        if (isHot(key)) {
+            buckets.foldReserved(key);
+        }
+    }
+
+    Optional<Inventory> findStockLevel(InventoryKey key) {
+        return buckets.findStockLevel(key);
+    }
+
+    List<Inventory> withBucketTotals(List<Inventory> inventories) {
+        return enabled && !hotKeys.isEmpty() ? buckets.withBucketTotals(inventories, hotKeys) : inventories;
+    }
+
+    /**
+     * Promote rows whose decayed conflict rate is above the threshold, demote hot keys that have
+     * cooled down, then pick up keys promoted and demoted by other replicas.
+     */
+    @Scheduled(fixedDelayString = "${inventory.hot-keys.evaluation-interval:10s}")
+    public void evaluate() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<InventoryKey> contended = contentionProfiler.contendedKeys();
+            for (InventoryKey key : contended) {
+                if (!hotKeys.contains(key)) {
+                    buckets.promote(key, bucketCount);
+                    inventoryMetrics.recordHotKeyPromotion(key.storeId());
+                }
+            }
+
+            buckets.whileMaintenanceLockHeld(() -> demoteCooledKeys(contended));
+            this.hotKeys = buckets.findHotKeys();
+        } catch (Exception e) {
+            inventoryMetrics.recordSyncFailure("all", "hot-key-evaluation");
+        }
+    }
+
+    /**
+     * Return reserved stock to the rows and spread available stock evenly across the buckets,
+     * one short transaction per skewed hot key. Balanced keys are only read, not locked.
+     */
+    @Scheduled(fixedDelayString = "${inventory.hot-keys.rebalance-interval:250ms}")
+    public void rebalance() {
+        if (!enabled || hotKeys.isEmpty()) {
+            return;
+        }
+
+        try {
+            buckets.whileMaintenanceLockHeld(() -> {
+                for (InventoryKey key : hotKeys) {
+                    try {
+                        if (buckets.isSkewed(key)) {
+                            transactionTemplate.executeWithoutResult(status -> buckets.rebalance(key));
+                        }
+                    } catch (Exception e) {
+                        inventoryMetrics.recordSyncFailure(key.storeId().toString(), "hot-key-rebalance");
+                    }
+                }
+            });
+        } catch (Exception e) {
+            inventoryMetrics.recordSyncFailure("all", "hot-key-rebalance");
+        }
+    }
+
+    /**
+     * Demote hot keys whose bucket reservation rate since the previous check is below the
+     * threshold and that this replica does not see contended. A key's first check, and its
+     * first after a re-promotion reset its counts, only takes a baseline.
+     */
+    private void demoteCooledKeys(List<InventoryKey> contended) {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - previousCheckNanos) / 1e9;
+        Map<InventoryKey, Long> counts = buckets.findReservationCounts();
+
+        for (Map.Entry<InventoryKey, Long> count : counts.entrySet()) {
+            InventoryKey key = count.getKey();
+            Long previous = previousReservationCounts.get(key);
+            if (previous == null || previous > count.getValue() || contended.contains(key)
+                    || (count.getValue() - previous) / elapsedSeconds >= demoteBelowRate) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> buckets.demote(key));
+            } catch (Exception e) {
+                inventoryMetrics.recordSyncFailure(key.storeId().toString(), "hot-key-demotion");
+            }
+        }
+
+        this.previousReservationCounts = counts;
+        this.previousCheckNanos = now;
+    }
+}
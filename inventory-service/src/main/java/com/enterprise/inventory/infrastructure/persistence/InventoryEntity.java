@@ -15,7 +15,7 @@ import java.util.UUID;
        uniqueConstraints = @UniqueConstraint(columnNames = {"store_id", "product_sku"}),
        indexes = {
            @Index(name = "idx_inventory_store_id", columnList = "store_id"),
-           @Index(name = "idx_inventory_product_sku", columnList = "product_sku"),
+           @Index(name = "idx_inventory_product_store", columnList = "product_sku, store_id"),
            @Index(name = "idx_inventory_store_product", columnList = "store_id, product_sku")
        })
 public class InventoryEntity {
@@ -67,7 +67,7 @@ public class InventoryEntity {
      */
     public com.enterprise.inventory.domain.model.Inventory toDomain() {
         return new com.enterprise.inventory.domain.model.Inventory(
-            id, storeId, new ProductSku(productSku),
+            id, storeId, ProductSku.of(productSku),
             Quantity.of(availableQuantity), Quantity.of(reservedQuantity),
             Quantity.of(committedQuantity), lastUpdated, version
         );
@@ -0,0 +1,81 @@
+package com.enterprise.inventory.infrastructure.persistence;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.repository.InventoryExportRepository;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of InventoryExportRepository.
+ * Uses its own template with a fetch size, so inside a transaction the PostgreSQL driver
+ * reads through a server-side cursor instead of buffering the whole result set.
+ */
+@Component
+public class InventoryExportRepositoryAdapter implements InventoryExportRepository {
+
+    /**
+     * Bucket totals are aggregated for the store once and joined, rather than per row.
+     */
+    private static final String STORE_STOCK_SQL = """
+        SELECT i.id, i.store_id, i.product_sku,
+               i.available_quantity + COALESCE(b.available_quantity, 0) AS available_quantity,
+               i.reserved_quantity + COALESCE(b.reserved_quantity, 0) AS reserved_quantity,
+               i.committed_quantity, i.last_updated, i.version
+          FROM inventory i
+          LEFT JOIN (SELECT product_sku,
+                            SUM(available_quantity) AS available_quantity,
+                            SUM(reserved_quantity) AS reserved_quantity
+                       FROM inventory_stock_buckets
+                      WHERE store_id = :storeId
+                      GROUP BY product_sku) b ON b.product_sku = i.product_sku
+         WHERE i.store_id = :storeId
+        """;
+
+    private static final String ALL_SQL = STORE_STOCK_SQL + " ORDER BY i.product_sku";
+
+    private static final String UPDATED_SINCE_SQL = STORE_STOCK_SQL
+        + " AND i.last_updated >= :since ORDER BY i.last_updated, i.product_sku";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public InventoryExportRepositoryAdapter(DataSource dataSource,
+                                            @Value("${inventory.export.fetch-size:1000}") int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    @Override
+    public void streamByStoreId(UUID storeId, Instant updatedSince, Consumer<Inventory> consumer) {
+        var params = new MapSqlParameterSource("storeId", storeId);
+        String sql = ALL_SQL;
+        if (updatedSince != null) {
+            params.addValue("since", Timestamp.from(updatedSince));
+            sql = UPDATED_SINCE_SQL;
+        }
+
+        jdbcTemplate.query(sql, params, rs -> {
+            consumer.accept(new Inventory(
+                rs.getObject("id", UUID.class),
+                rs.getObject("store_id", UUID.class),
+                ProductSku.of(rs.getString("product_sku")),
+                Quantity.of(rs.getInt("available_quantity")),
+                Quantity.of(rs.getInt("reserved_quantity")),
+                Quantity.of(rs.getInt("committed_quantity")),
+                rs.getTimestamp("last_updated").toInstant(),
+                rs.getLong("version")
+            ));
+        });
+    }
+}
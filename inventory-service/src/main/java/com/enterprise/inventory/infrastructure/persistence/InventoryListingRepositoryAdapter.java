@@ -0,0 +1,195 @@
+package com.enterprise.inventory.infrastructure.persistence;
+
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.KeysetPage;
+import com.enterprise.inventory.domain.model.StockLevelView;
+import com.enterprise.inventory.domain.repository.InventoryListingRepository;
+import com.enterprise.shared.common.ProductSku;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * JDBC implementation of InventoryListingRepository.
+ * Each page is one statement: an index range scan that stops after limit + 1 rows, with the
+ * hot-key bucket totals looked up for those rows only. The extra row tells whether another
+ * page exists without a count query.
+ */
+@Component
+public class InventoryListingRepositoryAdapter implements InventoryListingRepository {
+
+    /**
+     * Upper bound of the partial index idx_inventory_low_stock. Low-stock queries repeat it as a
+     * literal when the threshold allows, since the planner cannot match a partial index through
+     * a bind parameter.
+     */
+    private static final int LOW_STOCK_INDEX_BOUND = 10;
+
+    /**
+     * %s is the seek predicate and ORDER BY of one listing; the outer ORDER BY repeats it.
+     */
+    private static final String PAGE_SQL = """
+        WITH page AS (
+            SELECT store_id, product_sku, available_quantity, reserved_quantity, committed_quantity, version
+              FROM inventory
+             WHERE %s
+             LIMIT :limit
+        )
+        SELECT p.store_id, p.product_sku,
+               p.available_quantity AS row_available_quantity,
+               p.available_quantity + COALESCE(b.available_quantity, 0) AS available_quantity,
+               p.reserved_quantity + COALESCE(b.reserved_quantity, 0) AS reserved_quantity,
+               p.committed_quantity, p.version
+          FROM page p
+          LEFT JOIN LATERAL (SELECT SUM(available_quantity) AS available_quantity,
+                                    SUM(reserved_quantity) AS reserved_quantity
+                               FROM inventory_stock_buckets
+                              WHERE store_id = p.store_id
+                                AND product_sku = p.product_sku) b ON TRUE
+         ORDER BY %s
+        """;
+
+    // Seek on uk_inventory_store_product
+    private static final String BY_STORE_FIRST_SQL = PAGE_SQL.formatted(
+        "store_id = :storeId ORDER BY product_sku", "p.product_sku");
+    private static final String BY_STORE_AFTER_SQL = PAGE_SQL.formatted(
+        "store_id = :storeId AND product_sku > :afterSku ORDER BY product_sku", "p.product_sku");
+
+    // Seek on idx_inventory_product_store
+    private static final String BY_PRODUCT_FIRST_SQL = PAGE_SQL.formatted(
+        "product_sku = :productSku ORDER BY store_id", "p.store_id");
+    private static final String BY_PRODUCT_AFTER_SQL = PAGE_SQL.formatted(
+        "product_sku = :productSku AND store_id > :afterStoreId ORDER BY store_id", "p.store_id");
+
+    private static final String LOW_STOCK_SQL = PAGE_SQL.formatted(
+        "store_id = :storeId AND available_quantity <= :threshold %s %s ORDER BY available_quantity, product_sku",
+        "p.available_quantity, p.product_sku");
+
+    private static final String BY_KEYS_SQL = """
+        SELECT i.store_id, i.product_sku,
+               i.available_quantity + COALESCE(b.available_quantity, 0) AS available_quantity,
+               i.reserved_quantity + COALESCE(b.reserved_quantity, 0) AS reserved_quantity,
+               i.committed_quantity, i.version
+          FROM inventory i
+          LEFT JOIN LATERAL (SELECT SUM(available_quantity) AS available_quantity,
+                                    SUM(reserved_quantity) AS reserved_quantity
+                               FROM inventory_stock_buckets
+                              WHERE store_id = i.store_id
+                                AND product_sku = i.product_sku) b ON TRUE
+         WHERE (i.store_id, i.product_sku) IN (:keys)
+        """;
+
+    private static final String PARTIAL_INDEX_PREDICATE = "AND available_quantity < " + LOW_STOCK_INDEX_BOUND;
+    private static final String LOW_STOCK_SEEK_PREDICATE =
+        "AND (available_quantity, product_sku) > (:afterAvailable, :afterSku)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public InventoryListingRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public KeysetPage<StockLevelView, ProductSku> findByStoreId(UUID storeId, ProductSku afterSku, int limit) {
+        var params = new MapSqlParameterSource("storeId", storeId);
+        String sql = BY_STORE_FIRST_SQL;
+        if (afterSku != null) {
+            params.addValue("afterSku", afterSku.getValue());
+            sql = BY_STORE_AFTER_SQL;
+        }
+        return queryPage(sql, params, limit, row -> row.view().productSku());
+    }
+
+    @Override
+    public KeysetPage<StockLevelView, UUID> findByProductSku(ProductSku productSku, UUID afterStoreId, int limit) {
+        var params = new MapSqlParameterSource("productSku", productSku.getValue());
+        String sql = BY_PRODUCT_FIRST_SQL;
+        if (afterStoreId != null) {
+            params.addValue("afterStoreId", afterStoreId);
+            sql = BY_PRODUCT_AFTER_SQL;
+        }
+        return queryPage(sql, params, limit, row -> row.view().storeId());
+    }
+
+    @Override
+    public KeysetPage<StockLevelView, LowStockKey> findLowStockItems(UUID storeId, int threshold,
+                                                                     LowStockKey after, int limit) {
+        var params = new MapSqlParameterSource()
+            .addValue("storeId", storeId)
+            .addValue("threshold", threshold);
+        if (after != null) {
+            params.addValue("afterAvailable", after.availableQuantity())
+                .addValue("afterSku", after.productSku().getValue());
+        }
+        String sql = LOW_STOCK_SQL.formatted(
+            threshold < LOW_STOCK_INDEX_BOUND ? PARTIAL_INDEX_PREDICATE : "",
+            after != null ? LOW_STOCK_SEEK_PREDICATE : "");
+
+        // Hot rows keep most of their stock in buckets and look low on the row alone: they still
+        // advance the cursor but are only listed when the total is low as well
+        KeysetPage<PageRow, LowStockKey> rows = queryRows(sql, params, limit,
+            row -> new LowStockKey(row.rowAvailableQuantity(), row.view().productSku()));
+        List<StockLevelView> items = new ArrayList<>(rows.items().size());
+        for (PageRow row : rows.items()) {
+            if (row.view().availableQuantity() <= threshold) {
+                items.add(row.view());
+            }
+        }
+        return new KeysetPage<>(items, rows.nextKey());
+    }
+
+    @Override
+    public List<StockLevelView> findByKeys(Collection<InventoryKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> tuples = keys.stream()
+            .map(key -> new Object[] {key.storeId(), key.productSku().getValue()})
+            .toList();
+        return jdbcTemplate.query(BY_KEYS_SQL, new MapSqlParameterSource("keys", tuples),
+            (rs, rowNum) -> mapView(rs));
+    }
+
+    private <K> KeysetPage<StockLevelView, K> queryPage(String sql, MapSqlParameterSource params, int limit,
+                                                        Function<PageRow, K> keyOf) {
+        KeysetPage<PageRow, K> rows = queryRows(sql, params, limit, keyOf);
+        List<StockLevelView> items = new ArrayList<>(rows.items().size());
+        for (PageRow row : rows.items()) {
+            items.add(row.view());
+        }
+        return new KeysetPage<>(items, rows.nextKey());
+    }
+
+    private <K> KeysetPage<PageRow, K> queryRows(String sql, MapSqlParameterSource params, int limit,
+                                                 Function<PageRow, K> keyOf) {
+        List<PageRow> rows = jdbcTemplate.query(sql, params.addValue("limit", limit + 1), (rs, rowNum) -> new PageRow(
+            mapView(rs), rs.getInt("row_available_quantity")));
+
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<PageRow> page = rows.subList(0, limit);
+        return new KeysetPage<>(page, keyOf.apply(page.get(limit - 1)));
+    }
+
+    private static StockLevelView mapView(ResultSet rs) throws SQLException {
+        return new StockLevelView(
+            rs.getObject("store_id", UUID.class),
+            ProductSku.of(rs.getString("product_sku")),
+            rs.getInt("available_quantity"),
+            rs.getInt("reserved_quantity"),
+            rs.getInt("committed_quantity"),
+            rs.getLong("version")
+        );
+    }
+
+    private record PageRow(StockLevelView view, int rowAvailableQuantity) {}
+}
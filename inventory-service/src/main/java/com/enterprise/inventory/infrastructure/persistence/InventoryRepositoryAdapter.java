@@ -1,13 +1,25 @@
 package com.enterprise.inventory.infrastructure.persistence;
 
 import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.InventoryKey;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.domain.repository.DomainEventOutboxRepository;
 import com.enterprise.inventory.domain.repository.InventoryRepository;
 import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
 import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -18,13 +30,101 @@ import java.util.stream.Collectors;
 @Component
 public class InventoryRepositoryAdapter implements InventoryRepository {
 
+    /**
+     * Guarded decrement plus reservation insert in a single statement. The insert selects
+     * from the updated row, so no reservation is written when the guard rejects the update.
+     */
+    private static final String CONDITIONAL_RESERVE_SQL = """
+        WITH updated AS (
+            UPDATE inventory
+               SET available_quantity = available_quantity - :quantity,
+                   reserved_quantity = reserved_quantity + :quantity,
+                   last_updated = NOW(),
+                   version = version + 1
+             WHERE store_id = :storeId
+               AND product_sku = :productSku
+               AND available_quantity >= :quantity
+            RETURNING id, store_id, product_sku, available_quantity, reserved_quantity,
+                      committed_quantity, last_updated, version
+        ), reservation AS (
+            INSERT INTO stock_reservations (reservation_id, store_id, product_sku, quantity,
+                                            reason, status, created_at, expires_at)
+            SELECT :reservationId, store_id, product_sku, :quantity, :reason, 'ACTIVE',
+                   :createdAt, :expiresAt
+              FROM updated
+        )
+        SELECT * FROM updated
+        """;
+
+    /**
+     * Rows are locked in the ORDER BY order, so concurrent multi-row reservations
+     * always acquire locks in the same sequence and cannot deadlock. The order is the one
+     * InventoryKey sorts by, which the expiry release batch uses as well.
+     */
+    private static final String SELECT_FOR_UPDATE_SQL = """
+        SELECT id, store_id, product_sku, available_quantity, reserved_quantity,
+               committed_quantity, last_updated, version
+          FROM inventory
+         WHERE (store_id, product_sku) IN (:keys)
+         ORDER BY store_id, product_sku COLLATE "C"
+           FOR UPDATE
+        """;
+
+    private static final String BATCH_UPDATE_SQL = """
+        UPDATE inventory
+           SET available_quantity = :availableQuantity,
+               reserved_quantity = :reservedQuantity,
+               committed_quantity = :committedQuantity,
+               last_updated = :lastUpdated,
+               version = version + 1
+         WHERE id = :id
+           AND version = :version
+        """;
+
+    /**
+     * Returns released stock to available. Bounded by the current reserved quantity so a
+     * drifted row can never go negative and block the sweeper.
+     */
+    private static final String RELEASE_RESERVED_SQL = """
+        UPDATE inventory
+           SET available_quantity = available_quantity + LEAST(:quantity, reserved_quantity),
+               reserved_quantity = GREATEST(reserved_quantity - :quantity, 0),
+               last_updated = NOW(),
+               version = version + 1
+         WHERE store_id = :storeId
+           AND product_sku = :productSku
+        """;
+
+    private static final RowMapper<Inventory> INVENTORY_ROW_MAPPER = (rs, rowNum) -> new Inventory(
+        rs.getObject("id", UUID.class),
+        rs.getObject("store_id", UUID.class),
+        ProductSku.of(rs.getString("product_sku")),
+        Quantity.of(rs.getInt("available_quantity")),
+        Quantity.of(rs.getInt("reserved_quantity")),
+        Quantity.of(rs.getInt("committed_quantity")),
+        rs.getTimestamp("last_updated").toInstant(),
+        rs.getLong("version")
+    );
+
     private final JpaInventoryRepository jpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DomainEventOutboxRepository eventOutbox;
     private final InventoryMetrics inventoryMetrics;
+    private final HotInventoryRegistry hotInventory;
+    private final ContentionProfiler contentionProfiler;
 
     public InventoryRepositoryAdapter(JpaInventoryRepository jpaRepository,
-                                    InventoryMetrics inventoryMetrics) {
+                                    NamedParameterJdbcTemplate jdbcTemplate,
+                                    DomainEventOutboxRepository eventOutbox,
+                                    InventoryMetrics inventoryMetrics,
+                                    HotInventoryRegistry hotInventory,
+                                    ContentionProfiler contentionProfiler) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventOutbox = eventOutbox;
         this.inventoryMetrics = inventoryMetrics;
+        this.hotInventory = hotInventory;
+        this.contentionProfiler = contentionProfiler;
     }
 
     @Override
@@ -32,51 +132,83 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
         var timerSample = inventoryMetrics.startStockQueryTimer();
 
         try {
+            // Loaded to commit or release reserved stock, so that part must be back on the row;
+            // available stock stays in the buckets
+            hotInventory.foldReservedIfHot(new InventoryKey(storeId, productSku));
+
             Optional<InventoryEntity> entity = jpaRepository.findByStoreIdAndProductSku(
                 storeId, productSku.getValue());
 
-            inventoryMetrics.recordStockQueryTime(timerSample, storeId.toString());
+            inventoryMetrics.recordStockQueryTime(timerSample, storeId);
 
             return entity.map(InventoryEntity::toDomain);
         } catch (Exception e) {
-            inventoryMetrics.recordStockQueryTime(timerSample, storeId.toString());
+            inventoryMetrics.recordStockQueryTime(timerSample, storeId);
             throw e;
         }
     }
 
+    @Override
+    public Optional<Inventory> findStockLevel(UUID storeId, ProductSku productSku) {
+        InventoryKey key = new InventoryKey(storeId, productSku);
+        if (hotInventory.isHot(key)) {
+            return hotInventory.findStockLevel(key);
+        }
+
+        return jpaRepository.findByStoreIdAndProductSku(storeId, productSku.getValue())
+            .map(InventoryEntity::toDomain);
+    }
+
     @Override
     public List<Inventory> findByStoreId(UUID storeId) {
-        return jpaRepository.findByStoreId(storeId)
+        return hotInventory.withBucketTotals(jpaRepository.findByStoreId(storeId)
             .stream()
             .map(InventoryEntity::toDomain)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @Override
     public List<Inventory> findByProductSku(ProductSku productSku) {
-        return jpaRepository.findByProductSku(productSku.getValue())
+        return hotInventory.withBucketTotals(jpaRepository.findByProductSku(productSku.getValue())
             .stream()
             .map(InventoryEntity::toDomain)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @Override
     public Inventory save(Inventory inventory) {
+        InventoryKey key = new InventoryKey(inventory.getStoreId(), inventory.getProductSku());
+
         try {
             InventoryEntity entity = InventoryEntity.fromDomain(inventory);
-            InventoryEntity saved = jpaRepository.save(entity);
+            // Flush now so a version conflict surfaces here and is attributed to this row
+            InventoryEntity saved = jpaRepository.saveAndFlush(entity);
+            contentionProfiler.recordWrite(key, false);
 
-            // Update inventory level metrics
-            inventoryMetrics.updateInventoryLevel(
-                inventory.getProductSku().getValue(),
-                inventory.getAvailableQuantity().getValue()
-            );
+            // Store domain events in the outbox within the same transaction
+            eventOutbox.append(inventory);
+
+            // Update inventory level metrics; a hot row's own level leaves out its bucket stock
+            if (!hotInventory.isHot(key)) {
+                inventoryMetrics.recordInventoryLevel(
+                    inventory.getStoreId(),
+                    inventory.getProductSku().getValue(),
+                    inventory.getAvailableQuantity().getValue()
+                );
+            }
 
             // Clear domain events after successful persistence
             inventory.clearDomainEvents();
             inventory.incrementVersion();
 
             return saved.toDomain();
+        } catch (OptimisticLockingFailureException e) {
+            contentionProfiler.recordWrite(key, true);
+            inventoryMetrics.recordSyncFailure(
+                inventory.getStoreId().toString(),
+                "optimistic-lock-conflict"
+            );
+            throw e;
         } catch (Exception e) {
             inventoryMetrics.recordSyncFailure(
                 inventory.getStoreId().toString(),
@@ -94,10 +226,10 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
 
     @Override
     public List<Inventory> findLowStockItems(UUID storeId, int threshold) {
-        return jpaRepository.findLowStockItems(storeId, threshold)
+        return hotInventory.withBucketTotals(jpaRepository.findLowStockItems(storeId, threshold)
             .stream()
             .map(InventoryEntity::toDomain)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @Override
@@ -105,4 +237,172 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
         return jpaRepository.findByIdWithLock(inventoryId)
             .map(InventoryEntity::toDomain);
     }
+
+    @Override
+    public Optional<Inventory> reserveStockConditionally(StockReservation reservation) {
+        var params = new MapSqlParameterSource()
+            .addValue("storeId", reservation.getStoreId())
+            .addValue("productSku", reservation.getProductSku().getValue())
+            .addValue("quantity", reservation.getQuantity().getValue())
+            .addValue("reservationId", reservation.getReservationId())
+            .addValue("reason", reservation.getReason())
+            .addValue("createdAt", Timestamp.from(reservation.getCreatedAt()))
+            .addValue("expiresAt", Timestamp.from(reservation.getExpiresAt()));
+
+        try {
+            InventoryKey key = new InventoryKey(reservation.getStoreId(), reservation.getProductSku());
+            boolean hot = hotInventory.isHot(key);
+            // Hot rows serve reservations from a random bucket; the row covers what buckets cannot
+            Optional<Inventory> updated = hot ? hotInventory.reserve(reservation) : Optional.empty();
+            if (updated.isEmpty()) {
+                updated = reserveOnRow(key, params);
+            }
+            if (updated.isEmpty() && hot) {
+                // Each bucket holds a share of the stock, so a reservation larger than one share plus
+                // the row's remainder misses everywhere although the total covers it. Fold the buckets
+                // back in this transaction and try the row once more before reporting a miss.
+                hotInventory.foldIfHot(key);
+                updated = reserveOnRow(key, params);
+            }
+
+            updated.ifPresent(inventory -> {
+                // Record the reservation event and store it in the outbox within the same transaction
+                inventory.registerReservation(reservation);
+                eventOutbox.append(inventory);
+                inventory.clearDomainEvents();
+
+                inventoryMetrics.recordInventoryLevel(
+                    inventory.getStoreId(),
+                    inventory.getProductSku().getValue(),
+                    inventory.getAvailableQuantity().getValue()
+                );
+            });
+
+            return updated;
+        } catch (Exception e) {
+            inventoryMetrics.recordSyncFailure(
+                reservation.getStoreId().toString(),
+                "persistence-error"
+            );
+            throw e;
+        }
+    }
+
+    private Optional<Inventory> reserveOnRow(InventoryKey key, MapSqlParameterSource params) {
+        long started = System.nanoTime();
+        Optional<Inventory> updated = jdbcTemplate.query(CONDITIONAL_RESERVE_SQL, params, INVENTORY_ROW_MAPPER)
+            .stream()
+            .findFirst();
+        contentionProfiler.recordLockWait(key, System.nanoTime() - started);
+        return updated;
+    }
+
+    @Override
+    public List<Inventory> findAllForUpdate(List<InventoryKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<InventoryKey> distinctKeys = keys.stream().distinct().sorted().toList();
+        distinctKeys.forEach(hotInventory::foldIfHot);
+
+        List<Object[]> tuples = distinctKeys.stream()
+            .map(key -> new Object[] {key.storeId(), key.productSku().getValue()})
+            .collect(Collectors.toList());
+
+        long started = System.nanoTime();
+        List<Inventory> locked = jdbcTemplate.query(SELECT_FOR_UPDATE_SQL, new MapSqlParameterSource("keys", tuples),
+            INVENTORY_ROW_MAPPER);
+        // The statement cannot tell which row it waited on, so a long wait is charged to each of them
+        long waited = System.nanoTime() - started;
+        distinctKeys.forEach(key -> contentionProfiler.recordLockWait(key, waited));
+        return locked;
+    }
+
+    @Override
+    public void saveAll(List<Inventory> inventories) {
+        if (inventories.isEmpty()) {
+            return;
+        }
+
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[inventories.size()];
+        for (int i = 0; i < inventories.size(); i++) {
+            Inventory inventory = inventories.get(i);
+            batch[i] = new MapSqlParameterSource()
+                .addValue("id", inventory.getId())
+                .addValue("availableQuantity", inventory.getAvailableQuantity().getValue())
+                .addValue("reservedQuantity", inventory.getReservedQuantity().getValue())
+                .addValue("committedQuantity", inventory.getCommittedQuantity().getValue())
+                .addValue("lastUpdated", Timestamp.from(inventory.getLastUpdated()))
+                .addValue("version", inventory.getVersion());
+        }
+
+        try {
+            int[] updateCounts = jdbcTemplate.batchUpdate(BATCH_UPDATE_SQL, batch);
+
+            List<UUID> conflicts = new ArrayList<>();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Inventory inventory = inventories.get(i);
+                contentionProfiler.recordWrite(new InventoryKey(inventory.getStoreId(), inventory.getProductSku()),
+                    updateCounts[i] == 0);
+                if (updateCounts[i] == 0) {
+                    conflicts.add(inventory.getId());
+                }
+            }
+            if (!conflicts.isEmpty()) {
+                throw new OptimisticLockingFailureException("Inventory modified concurrently: " + conflicts);
+            }
+
+            for (Inventory inventory : inventories) {
+                // Store domain events in the outbox within the same transaction
+                eventOutbox.append(inventory);
+
+                inventoryMetrics.recordInventoryLevel(
+                    inventory.getStoreId(),
+                    inventory.getProductSku().getValue(),
+                    inventory.getAvailableQuantity().getValue()
+                );
+
+                // Clear domain events after successful persistence
+                inventory.clearDomainEvents();
+                inventory.incrementVersion();
+            }
+        } catch (OptimisticLockingFailureException e) {
+            inventoryMetrics.recordSyncFailure(
+                inventories.get(0).getStoreId().toString(),
+                "optimistic-lock-conflict"
+            );
+            throw e;
+        } catch (Exception e) {
+            inventoryMetrics.recordSyncFailure(
+                inventories.get(0).getStoreId().toString(),
+                "persistence-error"
+            );
+            throw e;
+        }
+    }
+
+    @Override
+    public void releaseReservedQuantities(Map<InventoryKey, Quantity> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        TreeMap<InventoryKey, Quantity> ordered = new TreeMap<>(quantities);
+        ordered.keySet().forEach(hotInventory::foldReservedIfHot);
+
+        MapSqlParameterSource[] batch = ordered.entrySet().stream()
+            .map(entry -> new MapSqlParameterSource()
+                .addValue("storeId", entry.getKey().storeId())
+                .addValue("productSku", entry.getKey().productSku().getValue())
+                .addValue("quantity", entry.getValue().getValue()))
+            .toArray(MapSqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(RELEASE_RESERVED_SQL, batch);
+    }
+
+    @Override
+    public boolean isHotKey(UUID storeId, ProductSku productSku) {
+        return hotInventory.isHot(new InventoryKey(storeId, productSku));
+    }
 }
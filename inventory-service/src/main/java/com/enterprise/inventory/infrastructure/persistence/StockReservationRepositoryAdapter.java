@@ -0,0 +1,209 @@
+package com.enterprise.inventory.infrastructure.persistence;
+
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.domain.repository.StockReservationRepository;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter implementation of StockReservationRepository using JDBC.
+ * Reservations are short-lived rows written at high rate, so inserts go through
+ * plain JDBC batches instead of the JPA persistence context.
+ */
+@Component
+public class StockReservationRepositoryAdapter implements StockReservationRepository {
+
+    private static final String SELECT_COLUMNS = """
+        SELECT reservation_id, store_id, product_sku, quantity, reason, status, created_at, expires_at
+          FROM stock_reservations
+        """;
+
+    /**
+     * Only an ACTIVE reservation may change status. A reservation the expiry sweep or another
+     * request already moved on updates no row, and the caller's transaction is rolled back.
+     */
+    private static final String UPSERT_SQL = """
+        INSERT INTO stock_reservations (reservation_id, store_id, product_sku, quantity, reason,
+                                        status, created_at, expires_at)
+        VALUES (:reservationId, :storeId, :productSku, :quantity, :reason, :status, :createdAt, :expiresAt)
+        ON CONFLICT (reservation_id) DO UPDATE
+           SET status = EXCLUDED.status
+         WHERE stock_reservations.status = 'ACTIVE'
+        """;
+
+    /**
+     * Claims the oldest expired reservations through the partial index
+     * idx_reservations_expires_at and flips them to EXPIRED in the same statement.
+     */
+    private static final String CLAIM_EXPIRED_SQL = """
+        UPDATE stock_reservations
+           SET status = 'EXPIRED'
+         WHERE reservation_id IN (
+                SELECT reservation_id
+                  FROM stock_reservations
+                 WHERE status = 'ACTIVE'
+                   AND expires_at < :cutoffTime
+                 ORDER BY expires_at
+                 LIMIT :limit
+                   FOR UPDATE SKIP LOCKED
+               )
+        RETURNING reservation_id, store_id, product_sku, quantity, reason, status, created_at, expires_at
+        """;
+
+    /**
+     * Claims specific reservations handed over by the expiry timer wheel. Reservations
+     * committed or released in the meantime no longer match and are left untouched.
+     */
+    private static final String CLAIM_EXPIRED_BY_ID_SQL = """
+        UPDATE stock_reservations
+           SET status = 'EXPIRED'
+         WHERE reservation_id IN (:reservationIds)
+           AND status = 'ACTIVE'
+           AND expires_at <= :cutoffTime
+        RETURNING reservation_id, store_id, product_sku, quantity, reason, status, created_at, expires_at
+        """;
+
+    private static final RowMapper<StockReservation> RESERVATION_ROW_MAPPER = (rs, rowNum) -> new StockReservation(
+        rs.getObject("reservation_id", UUID.class),
+        rs.getObject("store_id", UUID.class),
+        ProductSku.of(rs.getString("product_sku")),
+        Quantity.of(rs.getInt("quantity")),
+        rs.getString("reason"),
+        rs.getTimestamp("created_at").toInstant(),
+        rs.getTimestamp("expires_at").toInstant(),
+        StockReservation.ReservationStatus.valueOf(rs.getString("status"))
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public StockReservationRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<StockReservation> findById(UUID reservationId) {
+        return jdbcTemplate.query(SELECT_COLUMNS + " WHERE reservation_id = :reservationId",
+                new MapSqlParameterSource("reservationId", reservationId), RESERVATION_ROW_MAPPER)
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public List<StockReservation> findActiveReservations(UUID storeId, ProductSku productSku) {
+        return jdbcTemplate.query(SELECT_COLUMNS + """
+                 WHERE store_id = :storeId
+                   AND product_sku = :productSku
+                   AND status = 'ACTIVE'
+                """,
+            new MapSqlParameterSource()
+                .addValue("storeId", storeId)
+                .addValue("productSku", productSku.getValue()),
+            RESERVATION_ROW_MAPPER);
+    }
+
+    @Override
+    public List<StockReservation> findExpiredReservations(Instant cutoffTime) {
+        return jdbcTemplate.query(SELECT_COLUMNS + """
+                 WHERE status = 'ACTIVE'
+                   AND expires_at < :cutoffTime
+                """,
+            new MapSqlParameterSource("cutoffTime", Timestamp.from(cutoffTime)),
+            RESERVATION_ROW_MAPPER);
+    }
+
+    @Override
+    public List<StockReservation> claimExpiredReservations(Instant cutoffTime, int limit) {
+        return jdbcTemplate.query(CLAIM_EXPIRED_SQL,
+            new MapSqlParameterSource()
+                .addValue("cutoffTime", Timestamp.from(cutoffTime))
+                .addValue("limit", limit),
+            RESERVATION_ROW_MAPPER);
+    }
+
+    @Override
+    public List<StockReservation> claimExpiredReservations(List<UUID> reservationIds, Instant cutoffTime) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(CLAIM_EXPIRED_BY_ID_SQL,
+            new MapSqlParameterSource()
+                .addValue("reservationIds", reservationIds)
+                .addValue("cutoffTime", Timestamp.from(cutoffTime)),
+            RESERVATION_ROW_MAPPER);
+    }
+
+    @Override
+    public List<StockReservation> findAllActiveReservations() {
+        return jdbcTemplate.query(SELECT_COLUMNS + " WHERE status = 'ACTIVE'", RESERVATION_ROW_MAPPER);
+    }
+
+    @Override
+    public StockReservation save(StockReservation reservation) {
+        if (jdbcTemplate.update(UPSERT_SQL, toParameters(reservation)) == 0) {
+            throw statusConflict(List.of(reservation.getReservationId()));
+        }
+        return reservation;
+    }
+
+    @Override
+    public void saveAll(List<StockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(UPSERT_SQL, reservations.stream()
+            .map(this::toParameters)
+            .toArray(MapSqlParameterSource[]::new));
+
+        List<UUID> conflicts = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                conflicts.add(reservations.get(i).getReservationId());
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw statusConflict(conflicts);
+        }
+    }
+
+    @Override
+    public void delete(StockReservation reservation) {
+        jdbcTemplate.update("DELETE FROM stock_reservations WHERE reservation_id = :reservationId",
+            new MapSqlParameterSource("reservationId", reservation.getReservationId()));
+    }
+
+    @Override
+    public List<StockReservation> findByStoreId(UUID storeId) {
+        return jdbcTemplate.query(SELECT_COLUMNS + " WHERE store_id = :storeId",
+            new MapSqlParameterSource("storeId", storeId), RESERVATION_ROW_MAPPER);
+    }
+
+    private static OptimisticLockingFailureException statusConflict(List<UUID> reservationIds) {
+        return new OptimisticLockingFailureException("Reservations no longer active: " + reservationIds);
+    }
+
+    private MapSqlParameterSource toParameters(StockReservation reservation) {
+        return new MapSqlParameterSource()
+            .addValue("reservationId", reservation.getReservationId())
+            .addValue("storeId", reservation.getStoreId())
+            .addValue("productSku", reservation.getProductSku().getValue())
+            .addValue("quantity", reservation.getQuantity().getValue())
+            .addValue("reason", reservation.getReason())
+            .addValue("status", reservation.getStatus().name())
+            .addValue("createdAt", Timestamp.from(reservation.getCreatedAt()))
+            .addValue("expiresAt", Timestamp.from(reservation.getExpiresAt()));
+    }
+}
@@ -0,0 +1,113 @@
+package com.enterprise.inventory.infrastructure.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timer wheel: a ring of buckets advanced one tick at a time.
+ * Scheduling and cancellation are O(1); each tick only visits the bucket under the cursor,
+ * and deadlines further out than one revolution carry a remaining-rounds counter.
+ *
+ * Not thread-safe: the owning thread must perform every call.
+ */
+class HashedTimerWheel<K> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final List<ArrayDeque<Timeout<K>>> buckets;
+    private final Map<K, Timeout<K>> timeouts = new HashMap<>();
+
+    private long currentTick;
+
+    HashedTimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(wheelSize, 1) - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = Math.max(size, 1) - 1;
+        this.buckets = new ArrayList<>(mask + 1);
+        for (int i = 0; i <= mask; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Schedule key to fire at deadlineMillis, replacing any earlier schedule for the same key.
+     * Deadlines already in the past fire on the next tick.
+     */
+    void schedule(K key, long deadlineMillis) {
+        cancel(key);
+
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis - startMillis, tickMillis), currentTick);
+        long rounds = (deadlineTick - currentTick) / buckets.size();
+
+        Timeout<K> timeout = new Timeout<>(key, rounds);
+        buckets.get((int) (deadlineTick & mask)).addLast(timeout);
+        timeouts.put(key, timeout);
+    }
+
+    /**
+     * Cancel a pending key. The bucket entry is dropped lazily when its tick comes round.
+     */
+    void cancel(K key) {
+        Timeout<K> timeout = timeouts.remove(key);
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+    }
+
+    /**
+     * Advance the cursor through every tick that has elapsed by nowMillis.
+     *
+     * @return keys whose deadline has passed, in tick order
+     */
+    List<K> advance(long nowMillis) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        List<K> expired = new ArrayList<>();
+
+        while (currentTick <= targetTick) {
+            Iterator<Timeout<K>> iterator = buckets.get((int) (currentTick & mask)).iterator();
+            while (iterator.hasNext()) {
+                Timeout<K> timeout = iterator.next();
+                if (timeout.cancelled) {
+                    iterator.remove();
+                } else if (timeout.remainingRounds <= 0) {
+                    iterator.remove();
+                    timeouts.remove(timeout.key);
+                    expired.add(timeout.key);
+                } else {
+                    timeout.remainingRounds--;
+                }
+            }
+            currentTick++;
+        }
+
+        return expired;
+    }
+
+    int pending() {
+        return timeouts.size();
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static final class Timeout<K> {
+        private final K key;
+        private long remainingRounds;
+        private boolean cancelled;
+
+        private Timeout(K key, long remainingRounds) {
+            this.key = key;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+}
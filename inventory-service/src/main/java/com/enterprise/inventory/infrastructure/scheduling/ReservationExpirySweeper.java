@@ -0,0 +1,43 @@
+package com.enterprise.inventory.infrastructure.scheduling;
+
+import com.enterprise.inventory.application.usecase.ReleaseExpiredReservationsUseCase;
+import com.enterprise.shared.observability.InventoryMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically returns stock locked by expired reservations.
+ * Drains full batches back to back so a backlog after peak traffic clears quickly;
+ * each batch is its own transaction, and concurrent replicas skip each other's rows.
+ * With the expiry timer wheel enabled this is a backstop for reservations whose timer
+ * was lost, such as those created by a replica that has since gone away.
+ */
+@Component
+@ConditionalOnProperty(prefix = "inventory.reservation.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationExpirySweeper {
+
+    private final ReleaseExpiredReservationsUseCase releaseExpiredReservationsUseCase;
+    private final InventoryMetrics inventoryMetrics;
+    private final int batchSize;
+
+    public ReservationExpirySweeper(ReleaseExpiredReservationsUseCase releaseExpiredReservationsUseCase,
+                                    InventoryMetrics inventoryMetrics,
+                                    @Value("${inventory.reservation.expiry.batch-size:500}") int batchSize) {
+        this.releaseExpiredReservationsUseCase = releaseExpiredReservationsUseCase;
+        this.inventoryMetrics = inventoryMetrics;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.expiry.sweep-interval:1m}")
+    public void sweep() {
+        try {
+            while (releaseExpiredReservationsUseCase.execute(batchSize) >= batchSize) {
+                // Keep draining while full batches are returned
+            }
+        } catch (Exception e) {
+            inventoryMetrics.recordSyncFailure("all", "reservation-expiry-sweep");
+        }
+    }
+}
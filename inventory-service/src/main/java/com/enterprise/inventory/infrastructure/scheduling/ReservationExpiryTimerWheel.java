@@ -0,0 +1,137 @@
+package com.enterprise.inventory.infrastructure.scheduling;
+
+import com.enterprise.inventory.application.usecase.ReleaseExpiredReservationsUseCase;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.domain.repository.StockReservationRepository;
+import com.enterprise.inventory.domain.service.ReservationExpiryScheduler;
+import com.enterprise.shared.observability.InventoryMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process expiry scheduler for stock reservations.
+ * Reservations are placed on a hashed timer wheel when they are created and cancelled when
+ * committed; on each tick the due reservations are released in batches, so abandoned stock
+ * comes back within about one tick of its expiry instead of waiting for the next table scan.
+ *
+ * The wheel lives on a single ticker thread fed by a lock-free command queue, and releases
+ * run on a separate thread so slow database work never delays the ticks. Pending expiries
+ * are rebuilt from the active reservations on startup; the periodic sweeper stays in place
+ * as a backstop for reservations whose timer was lost.
+ */
+@Component
+@ConditionalOnProperty(prefix = "inventory.reservation.expiry.timer-wheel", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationExpiryTimerWheel implements ReservationExpiryScheduler {
+
+    private final StockReservationRepository reservationRepository;
+    private final ReleaseExpiredReservationsUseCase releaseExpiredReservationsUseCase;
+    private final InventoryMetrics inventoryMetrics;
+    private final Duration tickDuration;
+    private final int wheelSize;
+    private final int batchSize;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+
+    private HashedTimerWheel<UUID> wheel;
+    private ScheduledExecutorService ticker;
+    private ExecutorService releaser;
+
+    public ReservationExpiryTimerWheel(StockReservationRepository reservationRepository,
+                                       ReleaseExpiredReservationsUseCase releaseExpiredReservationsUseCase,
+                                       InventoryMetrics inventoryMetrics,
+                                       @Value("${inventory.reservation.expiry.timer-wheel.tick-duration:100ms}") Duration tickDuration,
+                                       @Value("${inventory.reservation.expiry.timer-wheel.wheel-size:4096}") int wheelSize,
+                                       @Value("${inventory.reservation.expiry.batch-size:500}") int batchSize) {
+        this.reservationRepository = reservationRepository;
+        this.releaseExpiredReservationsUseCase = releaseExpiredReservationsUseCase;
+        this.inventoryMetrics = inventoryMetrics;
+        this.tickDuration = tickDuration;
+        this.wheelSize = wheelSize;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        this.wheel = new HashedTimerWheel<>(tickDuration.toMillis(), wheelSize, System.currentTimeMillis());
+
+        // Rebuild pending expiries; reservations already past due fire on the first tick
+        for (StockReservation reservation : reservationRepository.findAllActiveReservations()) {
+            wheel.schedule(reservation.getReservationId(), reservation.getExpiresAt().toEpochMilli());
+        }
+
+        this.releaser = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reservation-expiry-releaser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reservation-expiry-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick,
+            tickDuration.toMillis(), tickDuration.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        releaser.shutdown();
+        try {
+            releaser.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void schedule(StockReservation reservation) {
+        UUID reservationId = reservation.getReservationId();
+        long deadline = reservation.getExpiresAt().toEpochMilli();
+        commands.add(() -> wheel.schedule(reservationId, deadline));
+    }
+
+    @Override
+    public void cancel(UUID reservationId) {
+        commands.add(() -> wheel.cancel(reservationId));
+    }
+
+    private void tick() {
+        try {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                command.run();
+            }
+
+            List<UUID> due = wheel.advance(System.currentTimeMillis());
+            for (int from = 0; from < due.size(); from += batchSize) {
+                List<UUID> batch = List.copyOf(due.subList(from, Math.min(from + batchSize, due.size())));
+                releaser.execute(() -> release(batch));
+            }
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the periodic tick
+            inventoryMetrics.recordSyncFailure("all", "reservation-expiry-wheel");
+        }
+    }
+
+    private void release(List<UUID> reservationIds) {
+        try {
+            releaseExpiredReservationsUseCase.releaseDue(reservationIds);
+        } catch (Exception e) {
+            // Left ACTIVE in the table, so the periodic sweeper picks them up
+            inventoryMetrics.recordSyncFailure("all", "reservation-expiry-release");
+        }
+    }
+}
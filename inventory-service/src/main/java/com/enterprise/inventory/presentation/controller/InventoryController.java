@@ -2,9 +2,19 @@ package com.enterprise.inventory.presentation.controller;
 
 import com.enterprise.inventory.application.usecase.ReserveStockUseCase;
 import com.enterprise.inventory.application.usecase.CommitStockUseCase;
+import com.enterprise.inventory.application.usecase.GetStockLevelUseCase;
+import com.enterprise.inventory.application.usecase.ExportStoreInventoryUseCase;
+import com.enterprise.inventory.application.usecase.ListInventoryUseCase;
+import com.enterprise.inventory.application.usecase.GetStoreSummaryUseCase;
+import com.enterprise.inventory.presentation.dto.BatchReservationResponse;
+import com.enterprise.inventory.presentation.dto.BatchReserveStockRequest;
 import com.enterprise.inventory.presentation.dto.ReserveStockRequest;
 import com.enterprise.inventory.presentation.dto.CommitStockRequest;
 import com.enterprise.inventory.presentation.dto.InventoryResponse;
+import com.enterprise.inventory.presentation.dto.StockExportFormat;
+import com.enterprise.inventory.presentation.dto.StockLevelPageResponse;
+import com.enterprise.inventory.presentation.dto.StockLevelResponse;
+import com.enterprise.inventory.presentation.dto.StoreSummaryResponse;
 import com.enterprise.shared.common.ProductSku;
 import com.enterprise.shared.common.Quantity;
 import com.enterprise.shared.observability.DistributedTracing;
@@ -12,10 +22,17 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -29,13 +46,25 @@ public class InventoryController {
 
     private final ReserveStockUseCase reserveStockUseCase;
     private final CommitStockUseCase commitStockUseCase;
+    private final GetStockLevelUseCase getStockLevelUseCase;
+    private final ExportStoreInventoryUseCase exportStoreInventoryUseCase;
+    private final ListInventoryUseCase listInventoryUseCase;
+    private final GetStoreSummaryUseCase getStoreSummaryUseCase;
     private final DistributedTracing distributedTracing;
 
     public InventoryController(ReserveStockUseCase reserveStockUseCase,
                               CommitStockUseCase commitStockUseCase,
+                              GetStockLevelUseCase getStockLevelUseCase,
+                              ExportStoreInventoryUseCase exportStoreInventoryUseCase,
+                              ListInventoryUseCase listInventoryUseCase,
+                              GetStoreSummaryUseCase getStoreSummaryUseCase,
                               DistributedTracing distributedTracing) {
         this.reserveStockUseCase = reserveStockUseCase;
         this.commitStockUseCase = commitStockUseCase;
+        this.getStockLevelUseCase = getStockLevelUseCase;
+        this.exportStoreInventoryUseCase = exportStoreInventoryUseCase;
+        this.listInventoryUseCase = listInventoryUseCase;
+        this.getStoreSummaryUseCase = getStoreSummaryUseCase;
         this.distributedTracing = distributedTracing;
     }
 
@@ -49,13 +78,13 @@ public class InventoryController {
     public ResponseEntity<InventoryResponse> reserveStock(@Valid @RequestBody ReserveStockRequest request) {
         return distributedTracing.executeTraced("api-reserve-stock", span -> {
             span.setAttribute("api.operation", "reserve-stock");
-            span.setAttribute("store.id", request.storeId().toString());
+            distributedTracing.addSpanAttribute(span, "store.id", () -> request.storeId().toString());
             span.setAttribute("product.sku", request.productSku());
 
             try {
                 var command = new ReserveStockUseCase.ReserveStockCommand(
                     request.storeId(),
-                    new ProductSku(request.productSku()),
+                    ProductSku.of(request.productSku()),
                     Quantity.of(request.quantity()),
                     request.reservationId() != null ? request.reservationId() : UUID.randomUUID(),
                     request.reason()
@@ -80,6 +109,64 @@ public class InventoryController {
         });
     }
 
+    @PostMapping("/reserve/batch")
+    @Operation(summary = "Reserve stock for a whole cart",
+               description = "Reserves every line in one transaction; either all lines are reserved or none are")
+    @ApiResponse(responseCode = "200", description = "All lines reserved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    @ApiResponse(responseCode = "409", description = "One or more lines could not be reserved")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<BatchReservationResponse> reserveStockBatch(@Valid @RequestBody BatchReserveStockRequest request) {
+        return distributedTracing.executeTraced("api-reserve-stock-batch", span -> {
+            span.setAttribute("api.operation", "reserve-stock-batch");
+            span.setAttribute("batch.lines", request.lines().size());
+
+            try {
+                var command = new ReserveStockUseCase.BatchReserveStockCommand(
+                    request.lines().stream()
+                        .map(line -> new ReserveStockUseCase.ReserveStockLine(
+                            line.storeId(),
+                            ProductSku.of(line.productSku()),
+                            Quantity.of(line.quantity()),
+                            line.reservationId() != null ? line.reservationId() : UUID.randomUUID()
+                        ))
+                        .toList(),
+                    request.reason()
+                );
+
+                var result = reserveStockUseCase.executeBatch(command);
+
+                var response = new BatchReservationResponse(
+                    result.success(),
+                    result.message(),
+                    result.lines().stream()
+                        .map(line -> new BatchReservationResponse.LineResult(
+                            line.storeId(),
+                            line.productSku(),
+                            line.reservationId(),
+                            line.success(),
+                            line.message(),
+                            line.remainingStock().getValue()
+                        ))
+                        .toList()
+                );
+
+                return result.success()
+                    ? ResponseEntity.ok(response)
+                    : ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+
+            } catch (Exception e) {
+                span.recordException(e);
+                if (e instanceof IllegalArgumentException) {
+                    return ResponseEntity.badRequest()
+                        .body(new BatchReservationResponse(false, e.getMessage(), List.of()));
+                }
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new BatchReservationResponse(false, "Internal server error", List.of()));
+            }
+        });
+    }
+
     @PostMapping("/commit")
     @Operation(summary = "Commit reserved stock",
                description = "Finalizes a stock reservation completing the transaction")
@@ -91,7 +178,7 @@ public class InventoryController {
     public ResponseEntity<InventoryResponse> commitStock(@Valid @RequestBody CommitStockRequest request) {
         return distributedTracing.executeTraced("api-commit-stock", span -> {
             span.setAttribute("api.operation", "commit-stock");
-            span.setAttribute("reservation.id", request.reservationId().toString());
+            distributedTracing.addSpanAttribute(span, "reservation.id", () -> request.reservationId().toString());
 
             try {
                 var command = new CommitStockUseCase.CommitStockCommand(
@@ -119,12 +206,153 @@ public class InventoryController {
         });
     }
 
+    @GetMapping("/stores/{storeId}/products/{productSku}")
+    @Operation(summary = "Get current stock level",
+               description = "Read-only stock query served from the cache when possible; may lag the latest write briefly")
+    @ApiResponse(responseCode = "200", description = "Stock level found")
+    @ApiResponse(responseCode = "400", description = "Invalid product SKU")
+    @ApiResponse(responseCode = "404", description = "Inventory not found")
+    public ResponseEntity<StockLevelResponse> getStockLevel(@PathVariable UUID storeId,
+                                                            @PathVariable String productSku) {
+        ProductSku sku;
+        try {
+            sku = ProductSku.of(productSku);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return getStockLevelUseCase.execute(storeId, sku)
+            .map(level -> ResponseEntity.ok(toResponse(level)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/stores/{storeId}")
+    @Operation(summary = "List a store's inventory",
+               description = "Keyset-paginated in SKU order; pass nextCursor from the previous page as cursor")
+    @ApiResponse(responseCode = "200", description = "Page returned")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    public ResponseEntity<StockLevelPageResponse> listStoreInventory(@PathVariable UUID storeId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(toResponse(listInventoryUseCase.byStore(storeId, cursor, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/products/{productSku}")
+    @Operation(summary = "List a product's inventory across stores",
+               description = "Keyset-paginated in store order; pass nextCursor from the previous page as cursor")
+    @ApiResponse(responseCode = "200", description = "Page returned")
+    @ApiResponse(responseCode = "400", description = "Invalid product SKU, cursor or limit")
+    public ResponseEntity<StockLevelPageResponse> listProductInventory(@PathVariable String productSku,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(toResponse(
+                listInventoryUseCase.byProduct(ProductSku.of(productSku), cursor, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/stores/{storeId}/low-stock")
+    @Operation(summary = "List a store's low-stock items",
+               description = "Items with at most threshold available, lowest first; keyset-paginated like the other listings")
+    @ApiResponse(responseCode = "200", description = "Page returned")
+    @ApiResponse(responseCode = "400", description = "Invalid threshold, cursor or limit")
+    public ResponseEntity<StockLevelPageResponse> listLowStock(@PathVariable UUID storeId,
+                                                               @RequestParam(defaultValue = "5") int threshold,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(toResponse(listInventoryUseCase.lowStock(storeId, threshold, cursor, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/stores/{storeId}/summary")
+    @Operation(summary = "Get a store's inventory summary",
+               description = "Totals and item counts per stock level, maintained incrementally as stock changes")
+    @ApiResponse(responseCode = "200", description = "Summary returned")
+    public ResponseEntity<StoreSummaryResponse> getStoreSummary(@PathVariable UUID storeId) {
+        var summary = getStoreSummaryUseCase.execute(storeId);
+        return ResponseEntity.ok(new StoreSummaryResponse(
+            summary.storeId(),
+            summary.items(),
+            summary.availableQuantity(),
+            summary.reservedQuantity(),
+            summary.committedQuantity(),
+            summary.totalQuantity(),
+            summary.outOfStockItems(),
+            summary.lowStockItems(),
+            summary.mediumStockItems(),
+            summary.highStockItems()
+        ));
+    }
+
+    @GetMapping("/stores/{storeId}/stream")
+    @Operation(summary = "Stream a store's inventory",
+               description = "Writes every row of the store as NDJSON or CSV while it is read, with constant memory. "
+                   + "Pass since (ISO-8601) for an incremental sync of rows changed at or after that instant. "
+                   + "Compressed with gzip when the client accepts it")
+    @ApiResponse(responseCode = "200", description = "Export streamed")
+    @ApiResponse(responseCode = "400", description = "Unsupported format")
+    public ResponseEntity<StreamingResponseBody> streamStoreInventory(
+            @PathVariable UUID storeId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since) {
+        StockExportFormat exportFormat;
+        try {
+            exportFormat = StockExportFormat.of(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = output -> {
+            try (StockExportFormat.RowWriter writer = exportFormat.open(output)) {
+                exportStoreInventoryUseCase.execute(storeId, since, stock -> {
+                    try {
+                        writer.write(stock);
+                    } catch (IOException e) {
+                        // Client went away; abandon the cursor
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+            .body(body);
+    }
+
     @GetMapping("/health")
     @Operation(summary = "Health check endpoint", description = "Returns service health status")
     public ResponseEntity<String> healthCheck() {
         return ResponseEntity.ok("Inventory Service is healthy");
     }
 
+    private static StockLevelPageResponse toResponse(ListInventoryUseCase.StockLevelPage page) {
+        return new StockLevelPageResponse(
+            page.items().stream().map(InventoryController::toResponse).toList(),
+            page.nextCursor()
+        );
+    }
+
+    private static StockLevelResponse toResponse(GetStockLevelUseCase.StockLevel level) {
+        return new StockLevelResponse(
+            level.storeId(),
+            level.productSku().getValue(),
+            level.availableQuantity().getValue(),
+            level.reservedQuantity().getValue(),
+            level.committedQuantity().getValue(),
+            level.version()
+        );
+    }
+
     private ResponseEntity<InventoryResponse> handleException(Exception e) {
         if (e instanceof IllegalArgumentException) {
             return ResponseEntity.badRequest()
@@ -0,0 +1,45 @@
+package com.enterprise.inventory.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for batch reservations with the outcome of every line.
+ */
+@Schema(description = "Response for an all-or-nothing cart reservation")
+public record BatchReservationResponse(
+
+    @Schema(description = "Whether every line was reserved", example = "true")
+    boolean success,
+
+    @Schema(description = "Operation result message", example = "Cart reserved successfully")
+    String message,
+
+    @Schema(description = "Per-line results, in request order")
+    List<LineResult> lines
+) {
+
+    @Schema(description = "Outcome of a single cart line")
+    public record LineResult(
+
+        @Schema(description = "Store ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID storeId,
+
+        @Schema(description = "Product SKU", example = "PROD123456")
+        String productSku,
+
+        @Schema(description = "Reservation ID when reserved", example = "987fcdeb-51d2-43a1-b456-426614174999")
+        UUID reservationId,
+
+        @Schema(description = "Line success status", example = "true")
+        boolean success,
+
+        @Schema(description = "Line result or failure reason", example = "Stock reserved successfully")
+        String message,
+
+        @Schema(description = "Remaining stock quantity after the line", example = "45")
+        Integer remainingStock
+    ) {}
+}
@@ -0,0 +1,112 @@
+package com.enterprise.inventory.presentation.dto;
+
+import com.enterprise.inventory.application.usecase.ExportStoreInventoryUseCase.ExportedStock;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Wire formats of the store inventory export. Each row is written as soon as it is read,
+ * field by field, without building an intermediate object per row.
+ */
+public enum StockExportFormat {
+
+    NDJSON("application/x-ndjson") {
+        @Override
+        public RowWriter open(OutputStream output) throws IOException {
+            JsonGenerator generator = JSON_FACTORY.createGenerator(output);
+            // Records are separated by the newline below, not the generator's default space
+            generator.setRootValueSeparator(null);
+            return new RowWriter() {
+                @Override
+                public void write(ExportedStock stock) throws IOException {
+                    generator.writeStartObject();
+                    generator.writeStringField("storeId", stock.storeId().toString());
+                    generator.writeStringField("productSku", stock.productSku().getValue());
+                    generator.writeNumberField("availableQuantity", stock.availableQuantity());
+                    generator.writeNumberField("reservedQuantity", stock.reservedQuantity());
+                    generator.writeNumberField("committedQuantity", stock.committedQuantity());
+                    generator.writeNumberField("version", stock.version());
+                    generator.writeStringField("lastUpdated", stock.lastUpdated().toString());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    generator.close();
+                }
+            };
+        }
+    },
+
+    CSV("text/csv") {
+        @Override
+        public RowWriter open(OutputStream output) throws IOException {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.write("storeId,productSku,availableQuantity,reservedQuantity,committedQuantity,version,lastUpdated\n");
+            return new RowWriter() {
+                @Override
+                public void write(ExportedStock stock) throws IOException {
+                    // SKUs are alphanumeric and timestamps ISO-8601, so no field needs quoting
+                    writer.write(stock.storeId().toString());
+                    writer.write(',');
+                    writer.write(stock.productSku().getValue());
+                    writer.write(',');
+                    writer.write(Integer.toString(stock.availableQuantity()));
+                    writer.write(',');
+                    writer.write(Integer.toString(stock.reservedQuantity()));
+                    writer.write(',');
+                    writer.write(Integer.toString(stock.committedQuantity()));
+                    writer.write(',');
+                    writer.write(Long.toString(stock.version()));
+                    writer.write(',');
+                    writer.write(stock.lastUpdated().toString());
+                    writer.write('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+    };
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String mediaType;
+
+    StockExportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Start writing rows to the stream. Closing the writer flushes and closes the stream.
+     */
+    public abstract RowWriter open(OutputStream output) throws IOException;
+
+    public static StockExportFormat of(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+
+    public interface RowWriter extends Closeable {
+        void write(ExportedStock stock) throws IOException;
+    }
+}
@@ -0,0 +1,18 @@
+package com.enterprise.inventory.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response DTO for paginated stock level listings.
+ */
+@Schema(description = "One page of stock levels")
+public record StockLevelPageResponse(
+
+    @Schema(description = "Stock levels on this page")
+    List<StockLevelResponse> items,
+
+    @Schema(description = "Pass as cursor to fetch the next page; absent on the last page", example = "TE9BRDAwMDEyMw")
+    String nextCursor
+) {}
@@ -0,0 +1,30 @@
+package com.enterprise.inventory.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for stock level queries.
+ */
+@Schema(description = "Current stock level of a product in a store")
+public record StockLevelResponse(
+
+    @Schema(description = "Store identifier", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID storeId,
+
+    @Schema(description = "Product SKU", example = "PROD123456")
+    String productSku,
+
+    @Schema(description = "Quantity available for reservation", example = "45")
+    Integer availableQuantity,
+
+    @Schema(description = "Quantity held by active reservations", example = "5")
+    Integer reservedQuantity,
+
+    @Schema(description = "Quantity committed to completed transactions", example = "120")
+    Integer committedQuantity,
+
+    @Schema(description = "Inventory version the figures were read at", example = "42")
+    Long version
+) {}
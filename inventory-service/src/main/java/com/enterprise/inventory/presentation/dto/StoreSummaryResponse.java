@@ -0,0 +1,42 @@
+package com.enterprise.inventory.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for store-level inventory summaries.
+ */
+@Schema(description = "Inventory totals of a store, with item counts per stock level")
+public record StoreSummaryResponse(
+
+    @Schema(description = "Store identifier", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID storeId,
+
+    @Schema(description = "Number of inventory items (SKUs) in the store", example = "1200")
+    Long items,
+
+    @Schema(description = "Total available quantity", example = "45000")
+    Long availableQuantity,
+
+    @Schema(description = "Total quantity held by active reservations", example = "300")
+    Long reservedQuantity,
+
+    @Schema(description = "Total committed quantity", example = "9800")
+    Long committedQuantity,
+
+    @Schema(description = "Available plus reserved plus committed", example = "55100")
+    Long totalQuantity,
+
+    @Schema(description = "Items with nothing available", example = "12")
+    Long outOfStockItems,
+
+    @Schema(description = "Items with 1 to 5 available", example = "40")
+    Long lowStockItems,
+
+    @Schema(description = "Items with 6 to 20 available", example = "150")
+    Long mediumStockItems,
+
+    @Schema(description = "Items with more than 20 available", example = "998")
+    Long highStockItems
+) {}
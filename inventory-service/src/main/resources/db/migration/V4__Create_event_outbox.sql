@@ -0,0 +1,20 @@
+-- Flyway Migration V4__Create_event_outbox.sql
+-- Versão: 4.0
+-- Descrição: Tabela de outbox transacional para publicação confiável de eventos de domínio
+
+CREATE TABLE event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL,
+    aggregate_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_on TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uk_event_outbox_event_id UNIQUE (event_id)
+);
+
+-- Relay claims whole aggregates from their oldest row; published rows are deleted, so the table stays small
+CREATE INDEX idx_event_outbox_aggregate_key ON event_outbox(aggregate_key, id);
+
+COMMENT ON TABLE event_outbox IS 'Outbox transacional: eventos gravados na mesma transação do inventário e publicados pelo relay';
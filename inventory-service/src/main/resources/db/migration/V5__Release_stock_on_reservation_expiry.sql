@@ -0,0 +1,38 @@
+-- Flyway Migration V5__Release_stock_on_reservation_expiry.sql
+-- Versão: 5.0
+-- Descrição: clean_expired_reservations passa a devolver o estoque reservado ao disponível
+
+-- Expired quantities are aggregated per (store, sku) and applied with one UPDATE per inventory row
+CREATE OR REPLACE FUNCTION clean_expired_reservations()
+RETURNS INTEGER AS $$
+DECLARE
+    expired_count INTEGER;
+BEGIN
+    WITH expired AS (
+        UPDATE stock_reservations
+        SET status = 'EXPIRED'
+        WHERE status = 'ACTIVE'
+          AND expires_at < NOW()
+        RETURNING store_id, product_sku, quantity
+    ), totals AS (
+        SELECT store_id, product_sku, SUM(quantity) AS quantity, COUNT(*) AS reservations
+        FROM expired
+        GROUP BY store_id, product_sku
+    ), released AS (
+        UPDATE inventory i
+        SET available_quantity = i.available_quantity + LEAST(t.quantity, i.reserved_quantity),
+            reserved_quantity = GREATEST(i.reserved_quantity - t.quantity, 0),
+            last_updated = NOW(),
+            version = i.version + 1
+        FROM totals t
+        WHERE i.store_id = t.store_id
+          AND i.product_sku = t.product_sku
+        RETURNING i.id
+    )
+    SELECT COALESCE(SUM(reservations), 0) INTO expired_count FROM totals;
+
+    RETURN expired_count;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION clean_expired_reservations IS 'Expira reservas vencidas e devolve as quantidades ao estoque disponível';
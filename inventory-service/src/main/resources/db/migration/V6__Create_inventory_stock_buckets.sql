@@ -0,0 +1,23 @@
+-- Flyway Migration V6__Create_inventory_stock_buckets.sql
+-- Versão: 6.0
+-- Descrição: Buckets de estoque para SKUs quentes (reservas distribuídas entre várias linhas)
+
+-- A SKU is in hot mode while it has bucket rows. Stock parked in the buckets is not part of
+-- inventory.available_quantity; totals are the inventory row plus the sum of its buckets.
+CREATE TABLE inventory_stock_buckets (
+    store_id UUID NOT NULL,
+    product_sku VARCHAR(12) NOT NULL,
+    bucket_no SMALLINT NOT NULL,
+    available_quantity INTEGER NOT NULL DEFAULT 0,
+    reserved_quantity INTEGER NOT NULL DEFAULT 0,
+    -- Reservations served by the bucket since promotion; drives demotion once a SKU cools down
+    reservations BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_inventory_stock_buckets PRIMARY KEY (store_id, product_sku, bucket_no),
+    CONSTRAINT fk_stock_buckets_inventory FOREIGN KEY (store_id, product_sku)
+        REFERENCES inventory(store_id, product_sku) ON DELETE CASCADE,
+    CONSTRAINT chk_bucket_available_quantity CHECK (available_quantity >= 0),
+    CONSTRAINT chk_bucket_reserved_quantity CHECK (reserved_quantity >= 0)
+);
+
+COMMENT ON TABLE inventory_stock_buckets IS 'Sub-linhas de estoque de SKUs quentes; reservas escolhem um bucket aleatório para evitar contenção na linha de inventário';
@@ -0,0 +1,8 @@
+-- Flyway Migration V7__Create_keyset_pagination_indexes.sql
+-- Versão: 7.0
+-- Descrição: Índice para paginação por keyset das listagens por produto
+
+-- Listing a product across stores seeks on (product_sku, store_id); the store listing already
+-- seeks on uk_inventory_store_product. The single-column index is a prefix of the new one.
+CREATE INDEX idx_inventory_product_store ON inventory(product_sku, store_id);
+DROP INDEX IF EXISTS idx_inventory_product_sku;
@@ -0,0 +1,125 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Journal files on disk: what recovery reads back past each checkpoint, and when they are truncated.
+ */
+class LedgerJournalTest {
+
+    private static final UUID STORE_ID = UUID.randomUUID();
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void appended_records_are_queued_in_sequence_and_drained_in_batches() {
+        LedgerJournal journal = open(0);
+        journal.append(entry("SKU0000001", 1));
+        journal.append(entry("SKU0000001", 2));
+        journal.append(entry("SKU0000002", 1));
+
+        List<LedgerJournalRecord> first = journal.drain(2);
+        assertEquals(List.of(1L, 2L), first.stream().map(LedgerJournalRecord::sequence).toList());
+        assertEquals(1, journal.pendingCount());
+        assertEquals(3L, journal.drain(10).get(0).sequence());
+        journal.close();
+    }
+
+    @Test
+    void recovery_reads_only_records_past_each_checkpoint_across_all_shard_files() {
+        LedgerJournal shard0 = open(0);
+        shard0.append(entry("SKU0000001", 1));
+        shard0.append(entry("SKU0000001", 2));
+        shard0.append(entry("SKU0000001", 3));
+        shard0.checkpoint(2);
+        shard0.close();
+
+        // A shard that no longer exists after a shard-count change is still recovered
+        LedgerJournal shard5 = new LedgerJournal(directory, 5, objectMapper);
+        shard5.open(0);
+        shard5.append(entry("SKU0000002", 7));
+        shard5.close();
+
+        List<LedgerJournalRecord> unflushed = LedgerJournal.readUnflushed(directory, objectMapper);
+
+        assertEquals(2, unflushed.size());
+        assertTrue(unflushed.stream().anyMatch(record -> record.entry().version() == 3));
+        assertTrue(unflushed.stream().anyMatch(record -> record.entry().productSku().equals("SKU0000002")));
+    }
+
+    @Test
+    void entry_survives_the_round_trip_through_the_file() {
+        LedgerJournal journal = open(0);
+        journal.append(entry("SKU0000001", 2));
+        journal.close();
+
+        LedgerJournalRecord recovered = LedgerJournal.readUnflushed(directory, objectMapper).get(0);
+
+        assertEquals(1L, recovered.sequence());
+        assertEquals(entry("SKU0000001", 2), recovered.entry());
+    }
+
+    @Test
+    void compaction_waits_until_every_record_is_flushed() throws IOException {
+        LedgerJournal journal = open(0);
+        journal.append(entry("SKU0000001", 1));
+        journal.append(entry("SKU0000001", 2));
+        journal.drain(10);
+
+        journal.checkpoint(1);
+        journal.compactIfFlushed();
+        assertFalse(Files.readAllLines(journalFile()).isEmpty());
+
+        journal.checkpoint(2);
+        journal.compactIfFlushed();
+        assertTrue(Files.readAllLines(journalFile()).isEmpty());
+
+        // Appends keep their sequence after compaction
+        assertEquals(3L, journal.append(entry("SKU0000001", 3)).sequence());
+        journal.close();
+    }
+
+    @Test
+    void reset_removes_journals_and_checkpoints() {
+        LedgerJournal journal = open(0);
+        journal.append(entry("SKU0000001", 1));
+        journal.checkpoint(1);
+        journal.close();
+
+        LedgerJournal.resetAll(directory);
+
+        assertFalse(Files.exists(journalFile()));
+        assertFalse(Files.exists(directory.resolve("journal-0.checkpoint")));
+        assertTrue(LedgerJournal.readUnflushed(directory, objectMapper).isEmpty());
+    }
+
+    private LedgerJournal open(int shardIndex) {
+        LedgerJournal journal = new LedgerJournal(directory, shardIndex, objectMapper);
+        journal.open(0);
+        return journal;
+    }
+
+    private Path journalFile() {
+        return directory.resolve("journal-0.log");
+    }
+
+    private static LedgerEntry entry(String productSku, long version) {
+        return new LedgerEntry(new UUID(0, productSku.hashCode()), STORE_ID, productSku,
+            10, (int) version, 0, 1_000L * version, version);
+    }
+}
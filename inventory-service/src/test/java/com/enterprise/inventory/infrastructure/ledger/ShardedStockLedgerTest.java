@@ -0,0 +1,251 @@
+package com.enterprise.inventory.infrastructure.ledger;
+
+import com.enterprise.inventory.domain.model.Inventory;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.infrastructure.persistence.InventoryRepositoryAdapter;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import com.enterprise.shared.observability.InventoryMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Transaction handling of the ledger: mutations stay private to their transaction, which holds
+ * the key until it completes, and are journaled on commit; journals left by a previous run are
+ * replayed on startup.
+ * Runs one shard and never flushes, so the journal file holds every record appended.
+ */
+class ShardedStockLedgerTest {
+
+    private static final UUID STORE_ID = UUID.randomUUID();
+    private static final ProductSku SKU = ProductSku.of("SKU0000001");
+
+    @TempDir
+    Path journalDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private InventoryRepositoryAdapter databaseRepository;
+    private ShardedStockLedger ledger;
+
+    @BeforeEach
+    void startLedger() {
+        ledger = newLedger(journalDirectory, mock(JdbcTemplate.class));
+        ledger.start();
+    }
+
+    @AfterEach
+    void stopLedger() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        executor.shutdownNow();
+        ledger.stop();
+    }
+
+    @Test
+    void committed_reservation_is_journaled_only_on_commit() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(ledger.reserve(reservation(3)).isPresent());
+        assertTrue(journal().isEmpty());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        List<LedgerJournalRecord> records = journal();
+        assertEquals(1, records.size());
+        assertEquals(7, records.get(0).entry().availableQuantity());
+        assertEquals(7, stock().getAvailableQuantity().getValue());
+    }
+
+    @Test
+    void rolled_back_reservation_is_dropped_and_never_journaled() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.reserve(reservation(3));
+        assertEquals(7, stock().getAvailableQuantity().getValue());
+        assertEquals(10, onOtherThread(() -> stock().getAvailableQuantity().getValue()));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        Inventory current = stock();
+        assertEquals(10, current.getAvailableQuantity().getValue());
+        assertEquals(0, current.getReservedQuantity().getValue());
+        assertEquals(1L, current.getVersion());
+        assertTrue(journal().isEmpty());
+    }
+
+    @Test
+    void second_transaction_waits_for_the_first_and_never_builds_on_its_rolled_back_stock() throws Exception {
+        // First transaction restocks 10 units it will roll back
+        TransactionSynchronizationManager.initSynchronization();
+        Inventory restocked = stock();
+        restocked.replenishStock(Quantity.of(10), "restock");
+        ledger.save(restocked);
+        List<TransactionSynchronization> first = takeSynchronizations();
+
+        CountDownLatch attempting = new CountDownLatch(1);
+        Future<Optional<Inventory>> second = executor.submit(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            attempting.countDown();
+            Optional<Inventory> reserved = ledger.reserve(reservation(15));
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+            return reserved;
+        });
+
+        attempting.await();
+        assertThrows(TimeoutException.class, () -> second.get(100, TimeUnit.MILLISECONDS));
+
+        first.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(second.get(2, TimeUnit.SECONDS).isEmpty());
+        assertEquals(10, stock().getAvailableQuantity().getValue());
+        assertEquals(0, stock().getReservedQuantity().getValue());
+    }
+
+    @Test
+    void key_held_past_the_lock_timeout_fails_with_a_lock_conflict() {
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.reserve(reservation(3));
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+            () -> onOtherThread(() -> ledger.reserve(reservation(1))));
+        assertInstanceOf(CannotAcquireLockException.class, failure.getCause());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(7, stock().getAvailableQuantity().getValue());
+    }
+
+    @Test
+    void uncommitted_mutation_still_fails_a_stale_save_in_its_own_transaction() {
+        Inventory loaded = stock();
+
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.reserve(reservation(3));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> ledger.save(loaded));
+    }
+
+    @Test
+    void first_access_loads_the_row_on_the_calling_thread() {
+        Thread caller = Thread.currentThread();
+        List<Thread> loadingThreads = new ArrayList<>();
+        when(databaseRepository.findByStoreIdAndProductSku(eq(STORE_ID), any())).thenAnswer(invocation -> {
+            loadingThreads.add(Thread.currentThread());
+            return Optional.of(new Inventory(UUID.randomUUID(), STORE_ID, SKU, Quantity.of(10),
+                Quantity.zero(), Quantity.zero(), Instant.now(), 1L));
+        });
+
+        assertTrue(ledger.reserve(reservation(3)).isPresent());
+        assertEquals(7, stock().getAvailableQuantity().getValue());
+
+        assertEquals(List.of(caller), loadingThreads);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void startup_replays_unflushed_records_at_their_latest_version(@TempDir Path previousRun) {
+        LedgerJournal journal = new LedgerJournal(previousRun, 3, objectMapper);
+        journal.open(0);
+        UUID inventoryId = UUID.randomUUID();
+        journal.append(new LedgerEntry(inventoryId, STORE_ID, SKU.getValue(), 7, 3, 0, 1_000L, 2));
+        journal.append(new LedgerEntry(inventoryId, STORE_ID, SKU.getValue(), 5, 5, 0, 2_000L, 3));
+        journal.close();
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ShardedStockLedger recovered = newLedger(previousRun, jdbcTemplate);
+        recovered.start();
+        try {
+            ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate).batchUpdate(contains("INSERT INTO inventory"), rows.capture());
+            assertEquals(1, rows.getValue().size());
+            assertEquals(5, rows.getValue().get(0)[3]);
+            assertEquals(3L, rows.getValue().get(0)[7]);
+
+            assertTrue(LedgerJournal.readUnflushed(previousRun, objectMapper).isEmpty());
+        } finally {
+            recovered.stop();
+        }
+    }
+
+    private ShardedStockLedger newLedger(Path directory, JdbcTemplate jdbcTemplate) {
+        databaseRepository = mock(InventoryRepositoryAdapter.class);
+        when(databaseRepository.findByStoreIdAndProductSku(eq(STORE_ID), any()))
+            .thenReturn(Optional.of(new Inventory(UUID.randomUUID(), STORE_ID, SKU, Quantity.of(10),
+                Quantity.zero(), Quantity.zero(), Instant.now(), 1L)));
+
+        return new ShardedStockLedger(databaseRepository, jdbcTemplate,
+            mock(PlatformTransactionManager.class), objectMapper,
+            new InventoryMetrics(new SimpleMeterRegistry()), directory.toString(),
+            1, Duration.ofHours(1), 500, Duration.ofMillis(300));
+    }
+
+    private StockReservation reservation(int quantity) {
+        return new StockReservation(UUID.randomUUID(), STORE_ID, SKU, Quantity.of(quantity), "test");
+    }
+
+    private Inventory stock() {
+        return ledger.find(STORE_ID, SKU).orElseThrow();
+    }
+
+    private <T> T onOtherThread(Callable<T> read) throws Exception {
+        return executor.submit(read).get(2, TimeUnit.SECONDS);
+    }
+
+    private void complete(int status) {
+        takeSynchronizations().forEach(sync -> sync.afterCompletion(status));
+    }
+
+    private List<TransactionSynchronization> takeSynchronizations() {
+        List<TransactionSynchronization> synchronizations =
+            new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private List<LedgerJournalRecord> journal() throws IOException {
+        List<LedgerJournalRecord> records = new ArrayList<>();
+        for (String line : Files.readAllLines(journalDirectory.resolve("journal-0.log"))) {
+            records.add(objectMapper.readValue(line, LedgerJournalRecord.class));
+        }
+        return records;
+    }
+}
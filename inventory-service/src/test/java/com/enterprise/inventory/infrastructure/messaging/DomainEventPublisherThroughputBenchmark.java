@@ -0,0 +1,159 @@
+package com.enterprise.inventory.infrastructure.messaging;
+
+import com.enterprise.shared.domain.events.StockReservedEvent;
+import com.enterprise.shared.observability.DistributedTracing;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.opentelemetry.api.OpenTelemetry;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput benchmark comparing the legacy publisher setup (event-type keys, one in-flight
+ * request, no batching) with the pipelined setup (storeId:sku keys, idempotent in-flight 5,
+ * linger/batch/compression). Runs against a Testcontainers broker.
+ *
+ * Run with: mvn test -Dtest=DomainEventPublisherThroughputBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DomainEventPublisherThroughputBenchmark {
+
+    private static final String TOPIC = "inventory.events";
+    private static final int PARTITIONS = 12;
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 200_000);
+    private static final int STORES = 10;
+    private static final int SKUS_PER_STORE = 1_000;
+
+    private static final KafkaContainer kafka =
+        new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.1"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final DistributedTracing distributedTracing = new DistributedTracing(OpenTelemetry.noop());
+
+    @BeforeAll
+    static void startBroker() throws Exception {
+        kafka.start();
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers()))) {
+            admin.createTopics(List.of(new NewTopic(TOPIC, PARTITIONS, (short) 1))).all().get();
+        }
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        kafka.stop();
+    }
+
+    @Test
+    void pipelined_publisher_outperforms_legacy_configuration() throws Exception {
+        List<String[]> events = generateEvents();
+
+        // Warm up the broker and JIT with a short run of each configuration
+        publish(legacyProducerConfig(), PartitionKeyStrategy.EVENT_TYPE, events.subList(0, 10_000));
+        publish(pipelinedProducerConfig(), PartitionKeyStrategy.AGGREGATE, events.subList(0, 10_000));
+
+        Result legacy = publish(legacyProducerConfig(), PartitionKeyStrategy.EVENT_TYPE, events);
+        Result pipelined = publish(pipelinedProducerConfig(), PartitionKeyStrategy.AGGREGATE, events);
+
+        System.out.printf("legacy    : %,12.0f events/sec across %2d partition(s)%n", legacy.eventsPerSecond(), legacy.partitions());
+        System.out.printf("pipelined : %,12.0f events/sec across %2d partition(s)%n", pipelined.eventsPerSecond(), pipelined.partitions());
+
+        assertTrue(pipelined.partitions() > legacy.partitions(), "aggregate keys should spread load across partitions");
+    }
+
+    private Result publish(Map<String, Object> producerConfig,
+                           PartitionKeyStrategy keyStrategy,
+                           List<String[]> events) throws Exception {
+        var producerFactory = new DefaultKafkaProducerFactory<String, String>(producerConfig);
+        var kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        var publisher = new DomainEventPublisher(kafkaTemplate, objectMapper, distributedTracing, keyStrategy, 10_000);
+        Set<Integer> partitions = ConcurrentHashMap.newKeySet();
+
+        try {
+            long start = System.nanoTime();
+            List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(events.size());
+            for (String[] event : events) {
+                sends.add(publisher.publishSerialized(event[0], event[1], event[2])
+                    .whenComplete((result, ex) -> {
+                        if (result != null) {
+                            partitions.add(result.getRecordMetadata().partition());
+                        }
+                    }));
+            }
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get();
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            return new Result(events.size() / seconds, partitions.size());
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    private List<String[]> generateEvents() throws Exception {
+        List<UUID> stores = new ArrayList<>();
+        for (int i = 0; i < STORES; i++) {
+            stores.add(UUID.randomUUID());
+        }
+
+        List<String[]> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            UUID storeId = stores.get(i % STORES);
+            String sku = String.format("SKU%06d", (i / STORES) % SKUS_PER_STORE);
+            var event = new StockReservedEvent(storeId, sku, 1, UUID.randomUUID(), "benchmark");
+            events.add(new String[] {
+                event.getEventType(), storeId + ":" + sku, objectMapper.writeValueAsString(event)
+            });
+        }
+        return events;
+    }
+
+    private Map<String, Object> baseProducerConfig() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        return config;
+    }
+
+    private Map<String, Object> legacyProducerConfig() {
+        Map<String, Object> config = baseProducerConfig();
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
+        return config;
+    }
+
+    private Map<String, Object> pipelinedProducerConfig() {
+        Map<String, Object> config = baseProducerConfig();
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, 65_536);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        return config;
+    }
+
+    private record Result(double eventsPerSecond, int partitions) {}
+}
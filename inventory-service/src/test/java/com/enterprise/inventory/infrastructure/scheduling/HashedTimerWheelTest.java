@@ -0,0 +1,105 @@
+package com.enterprise.inventory.infrastructure.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tick arithmetic of the wheel: 10 ms ticks on a 4-bucket wheel starting at 1000, so deadlines
+ * more than 40 ms out need remaining rounds.
+ */
+class HashedTimerWheelTest {
+
+    private static final long START = 1_000;
+
+    private final HashedTimerWheel<String> wheel = new HashedTimerWheel<>(10, 4, START);
+
+    @Test
+    void fires_on_the_tick_a_deadline_rounds_up_to() {
+        wheel.schedule("a", START + 25);
+
+        assertTrue(wheel.advance(START + 29).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(START + 30));
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void deadline_beyond_one_revolution_waits_for_its_rounds() {
+        // Tick 10 shares bucket 2 with ticks 2 and 6, which the cursor passes first
+        wheel.schedule("far", START + 100);
+        wheel.schedule("near", START + 20);
+
+        assertEquals(List.of("near"), wheel.advance(START + 20));
+        assertTrue(wheel.advance(START + 60).isEmpty());
+        assertTrue(wheel.advance(START + 99).isEmpty());
+        assertEquals(List.of("far"), wheel.advance(START + 100));
+    }
+
+    @Test
+    void rounds_count_from_the_current_tick_not_the_start() {
+        wheel.advance(START + 35);
+        wheel.schedule("a", START + 90);
+
+        assertTrue(wheel.advance(START + 89).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(START + 90));
+    }
+
+    @Test
+    void advancing_many_revolutions_at_once_fires_everything_due_in_tick_order() {
+        wheel.schedule("late", START + 130);
+        wheel.schedule("early", START + 10);
+        wheel.schedule("middle", START + 70);
+        wheel.schedule("not-yet", START + 500);
+
+        assertEquals(List.of("early", "middle", "late"), wheel.advance(START + 200));
+        assertEquals(1, wheel.pending());
+    }
+
+    @Test
+    void past_deadline_fires_on_the_next_tick() {
+        wheel.advance(START + 50);
+        wheel.schedule("overdue", START + 10);
+
+        assertTrue(wheel.advance(START + 59).isEmpty());
+        assertEquals(List.of("overdue"), wheel.advance(START + 60));
+    }
+
+    @Test
+    void cancelled_key_never_fires() {
+        wheel.schedule("a", START + 30);
+        wheel.schedule("b", START + 30);
+        wheel.cancel("a");
+
+        assertEquals(1, wheel.pending());
+        assertEquals(List.of("b"), wheel.advance(START + 100));
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void rescheduling_replaces_the_earlier_deadline() {
+        wheel.schedule("a", START + 20);
+        wheel.schedule("a", START + 150);
+
+        assertTrue(wheel.advance(START + 140).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(START + 150));
+    }
+
+    @Test
+    void wheel_size_is_rounded_up_to_a_power_of_two() {
+        // 5 buckets become 8, so 75 ms out is still within the first revolution
+        HashedTimerWheel<String> rounded = new HashedTimerWheel<>(10, 5, START);
+        rounded.schedule("a", START + 75);
+
+        assertTrue(rounded.advance(START + 79).isEmpty());
+        assertEquals(List.of("a"), rounded.advance(START + 80));
+    }
+
+    @Test
+    void rejects_a_non_positive_tick() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimerWheel<String>(0, 4, START));
+    }
+}
@@ -0,0 +1,82 @@
+package com.enterprise.inventory.infrastructure.scheduling;
+
+import com.enterprise.inventory.application.usecase.ReleaseExpiredReservationsUseCase;
+import com.enterprise.inventory.domain.model.StockReservation;
+import com.enterprise.inventory.domain.repository.StockReservationRepository;
+import com.enterprise.shared.common.ProductSku;
+import com.enterprise.shared.common.Quantity;
+import com.enterprise.shared.observability.InventoryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The scheduler around the wheel, on 10 ms ticks: startup rebuild from the active reservations,
+ * and schedule and cancel commands from request threads.
+ */
+class ReservationExpiryTimerWheelTest {
+
+    private final StockReservationRepository reservationRepository = mock(StockReservationRepository.class);
+    private final ReleaseExpiredReservationsUseCase releaseUseCase = mock(ReleaseExpiredReservationsUseCase.class);
+    private final ReservationExpiryTimerWheel scheduler = new ReservationExpiryTimerWheel(
+        reservationRepository, releaseUseCase, new InventoryMetrics(new SimpleMeterRegistry()),
+        Duration.ofMillis(10), 64, 500);
+
+    @AfterEach
+    void stopScheduler() {
+        scheduler.stop();
+    }
+
+    @Test
+    void startup_rebuild_releases_overdue_reservations_and_keeps_the_rest_pending() {
+        StockReservation overdue = reservationExpiringIn(Duration.ofMinutes(-5));
+        StockReservation pending = reservationExpiringIn(Duration.ofHours(1));
+        when(reservationRepository.findAllActiveReservations()).thenReturn(List.of(overdue, pending));
+
+        scheduler.start();
+
+        verify(releaseUseCase, timeout(2_000)).releaseDue(List.of(overdue.getReservationId()));
+        verify(releaseUseCase, after(200).never()).releaseDue(argThat(ids -> ids.contains(pending.getReservationId())));
+    }
+
+    @Test
+    void scheduled_reservation_is_released_shortly_after_it_expires() {
+        when(reservationRepository.findAllActiveReservations()).thenReturn(List.of());
+        scheduler.start();
+
+        StockReservation reservation = reservationExpiringIn(Duration.ofMillis(50));
+        scheduler.schedule(reservation);
+
+        verify(releaseUseCase, timeout(2_000)).releaseDue(List.of(reservation.getReservationId()));
+    }
+
+    @Test
+    void cancelled_reservation_is_never_released() {
+        when(reservationRepository.findAllActiveReservations()).thenReturn(List.of());
+        scheduler.start();
+
+        StockReservation reservation = reservationExpiringIn(Duration.ofMillis(50));
+        scheduler.schedule(reservation);
+        scheduler.cancel(reservation.getReservationId());
+
+        verify(releaseUseCase, after(300).never()).releaseDue(argThat(ids -> ids.contains(reservation.getReservationId())));
+    }
+
+    private static StockReservation reservationExpiringIn(Duration duration) {
+        Instant now = Instant.now();
+        return new StockReservation(UUID.randomUUID(), UUID.randomUUID(), ProductSku.of("SKU0000001"),
+            Quantity.of(1), "test", now, now.plus(duration), StockReservation.ReservationStatus.ACTIVE);
+    }
+}
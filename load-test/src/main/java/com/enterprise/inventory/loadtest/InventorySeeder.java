@@ -0,0 +1,57 @@
+package com.enterprise.inventory.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds stores×SKUs inventory rows directly through JDBC.
+ * Store ids and SKUs are derived from their index, so runs of the same scenario hit the same keys.
+ */
+final class InventorySeeder {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO inventory (store_id, product_sku, available_quantity)
+        VALUES (?, ?, ?)
+        ON CONFLICT (store_id, product_sku) DO UPDATE
+           SET available_quantity = EXCLUDED.available_quantity,
+               reserved_quantity = 0,
+               committed_quantity = 0
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    InventorySeeder(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    void seed(LoadScenario scenario) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int store = 0; store < scenario.stores(); store++) {
+            for (int sku = 0; sku < scenario.skus(); sku++) {
+                batch.add(new Object[] {storeId(store), sku(sku), scenario.initialStock()});
+                if (batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+    }
+
+    static UUID storeId(int index) {
+        return UUID.nameUUIDFromBytes(("load-test-store-" + index).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sku(int index) {
+        return String.format("LOAD%06d", index);
+    }
+}
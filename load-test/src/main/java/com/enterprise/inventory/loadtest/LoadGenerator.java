@@ -0,0 +1,177 @@
+package com.enterprise.inventory.loadtest;
+
+import com.enterprise.inventory.loadtest.OperationStats.Outcome;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop load generator.
+ * For the reserve-commit workload each client thread reserves a random store and a
+ * Zipf-distributed SKU, then commits a share of its successful reservations; the remaining
+ * ones are left to expire, as abandoned carts would be. For the stock-reads workload each
+ * client queries single stock positions with the same key distribution, against either the
+ * MVC endpoint of inventory-service or the reactive inventory-query-service.
+ */
+final class LoadGenerator {
+
+    private final LoadScenario scenario;
+    private final URI reserveUri;
+    private final URI commitUri;
+    private final URI stockLevelUri;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final ZipfSampler skuSampler;
+    private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+
+    LoadGenerator(LoadScenario scenario, URI commandBaseUri, URI queryBaseUri, ObjectMapper objectMapper) {
+        this.scenario = scenario;
+        this.reserveUri = commandBaseUri.resolve("/api/v1/inventory/reserve");
+        this.commitUri = commandBaseUri.resolve("/api/v1/inventory/commit");
+        this.stockLevelUri = scenario.readPath() == LoadScenario.ReadPath.REACTIVE
+            ? queryBaseUri.resolve("/api/v1/inventory-query/")
+            : commandBaseUri.resolve("/api/v1/inventory/");
+        this.objectMapper = objectMapper;
+        this.skuSampler = new ZipfSampler(scenario.skus(), scenario.zipfExponent());
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(scenario.requestTimeoutMillis()))
+            .build();
+
+        if (scenario.workload() == LoadScenario.Workload.STOCK_READS) {
+            stats.put("read", new OperationStats());
+        } else {
+            stats.put("reserve", new OperationStats());
+            stats.put("commit", new OperationStats());
+        }
+    }
+
+    /**
+     * Apply the warmup load, run the measurement callback, then apply the measured load.
+     */
+    Map<String, OperationStats> run(Runnable onMeasurementStart) throws InterruptedException {
+        long start = System.nanoTime();
+        long measurementStart = start + TimeUnit.SECONDS.toNanos(scenario.warmupSeconds());
+        long end = measurementStart + TimeUnit.SECONDS.toNanos(scenario.durationSeconds());
+
+        ExecutorService clients = Executors.newFixedThreadPool(scenario.concurrency());
+        List<Future<?>> running = new ArrayList<>();
+        for (int client = 0; client < scenario.concurrency(); client++) {
+            String customerId = "load-test-" + client;
+            running.add(clients.submit(() -> {
+                while (System.nanoTime() < end) {
+                    if (scenario.workload() == LoadScenario.Workload.STOCK_READS) {
+                        readStockLevel();
+                    } else {
+                        reserveAndMaybeCommit(customerId);
+                    }
+                }
+            }));
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measurementStart - System.nanoTime()));
+        stats.values().forEach(OperationStats::reset);
+        onMeasurementStart.run();
+
+        clients.shutdown();
+        clients.awaitTermination(scenario.durationSeconds() + 60L, TimeUnit.SECONDS);
+        for (Future<?> client : running) {
+            if (client.isDone() && !client.isCancelled()) {
+                try {
+                    client.get();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Load client failed", e);
+                }
+            }
+        }
+        return stats;
+    }
+
+    private void reserveAndMaybeCommit(String customerId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> reserve = Map.of(
+            "storeId", InventorySeeder.storeId(random.nextInt(scenario.stores())),
+            "productSku", InventorySeeder.sku(skuSampler.next()),
+            "quantity", random.nextInt(scenario.minQuantity(), scenario.maxQuantity() + 1),
+            "reservationId", UUID.randomUUID(),
+            "reason", "load-test " + scenario.name()
+        );
+
+        JsonNode reserved = post(reserveUri, reserve, stats.get("reserve"));
+        if (reserved == null || random.nextDouble() >= scenario.commitRatio()) {
+            return;
+        }
+
+        Map<String, Object> commit = Map.of(
+            "reservationId", reserve.get("reservationId"),
+            "transactionId", UUID.randomUUID(),
+            "customerId", customerId
+        );
+        post(commitUri, commit, stats.get("commit"));
+    }
+
+    private void readStockLevel() {
+        UUID storeId = InventorySeeder.storeId(ThreadLocalRandom.current().nextInt(scenario.stores()));
+        URI uri = stockLevelUri.resolve("stores/" + storeId + "/products/" + InventorySeeder.sku(skuSampler.next()));
+        send(HttpRequest.newBuilder(uri).GET(), stats.get("read"));
+    }
+
+    private JsonNode post(URI uri, Map<String, Object> body, OperationStats operationStats) {
+        try {
+            return send(HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))), operationStats);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+
+    /**
+     * Send the request and record the outcome. Returns the response only for a successful call.
+     */
+    private JsonNode send(HttpRequest.Builder request, OperationStats operationStats) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(
+                request.timeout(Duration.ofMillis(scenario.requestTimeoutMillis())).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - started;
+
+            JsonNode payload = response.statusCode() == 200 ? objectMapper.readTree(response.body()) : null;
+            Outcome outcome = classify(response.statusCode(), payload);
+            operationStats.record(elapsed, outcome);
+            return outcome == Outcome.SUCCESS ? payload : null;
+        } catch (IOException e) {
+            operationStats.record(System.nanoTime() - started, Outcome.ERROR);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static Outcome classify(int statusCode, JsonNode payload) {
+        return switch (statusCode) {
+            // Command responses carry a success flag; query responses have none and succeed on 200
+            case 200 -> payload.path("success").asBoolean(true) ? Outcome.SUCCESS : Outcome.FALLBACK;
+            case 404, 409, 410 -> Outcome.REJECTED;
+            default -> Outcome.ERROR;
+        };
+    }
+}
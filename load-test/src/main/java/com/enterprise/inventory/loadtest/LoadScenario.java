@@ -0,0 +1,76 @@
+package com.enterprise.inventory.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+/**
+ * Load test scenario, read from a YAML file.
+ * Omitted settings fall back to the defaults below, so a scenario only lists what it changes.
+ *
+ * @param name                  scenario name, used for the result file
+ * @param workload              reserve-commit (default) or stock-reads
+ * @param readPath              for stock-reads: mvc (inventory-service, default) or reactive (inventory-query-service)
+ * @param stores                number of stores seeded and targeted uniformly
+ * @param skus                  number of SKUs per store, targeted with a Zipf distribution
+ * @param initialStock          available quantity seeded per store×SKU
+ * @param zipfExponent          SKU skew; 0 is uniform, above 1 concentrates traffic on a few SKUs
+ * @param concurrency           closed-loop client threads, each with at most one request in flight
+ * @param warmupSeconds         load applied before measurement starts
+ * @param durationSeconds       measured load
+ * @param minQuantity           smallest quantity per reservation
+ * @param maxQuantity           largest quantity per reservation
+ * @param commitRatio           share of successful reservations that are committed; the rest expire
+ * @param requestTimeoutMillis  client-side timeout per request
+ * @param applicationProperties extra inventory-service properties, e.g. to toggle hot-key buckets
+ */
+record LoadScenario(
+    String name,
+    Workload workload,
+    ReadPath readPath,
+    int stores,
+    int skus,
+    int initialStock,
+    double zipfExponent,
+    int concurrency,
+    int warmupSeconds,
+    int durationSeconds,
+    int minQuantity,
+    int maxQuantity,
+    double commitRatio,
+    int requestTimeoutMillis,
+    Map<String, String> applicationProperties
+) {
+
+    LoadScenario {
+        name = name != null ? name : "scenario";
+        workload = workload != null ? workload : Workload.RESERVE_COMMIT;
+        readPath = readPath != null ? readPath : ReadPath.MVC;
+        stores = stores > 0 ? stores : 10;
+        skus = skus > 0 ? skus : 1_000;
+        initialStock = initialStock > 0 ? initialStock : 1_000;
+        concurrency = concurrency > 0 ? concurrency : 32;
+        durationSeconds = durationSeconds > 0 ? durationSeconds : 60;
+        minQuantity = minQuantity > 0 ? minQuantity : 1;
+        maxQuantity = Math.max(maxQuantity, minQuantity);
+        requestTimeoutMillis = requestTimeoutMillis > 0 ? requestTimeoutMillis : 5_000;
+        applicationProperties = applicationProperties != null ? Map.copyOf(applicationProperties) : Map.of();
+
+        if (commitRatio < 0 || commitRatio > 1) {
+            throw new IllegalArgumentException("commitRatio must be between 0 and 1");
+        }
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("zipfExponent cannot be negative");
+        }
+    }
+
+    enum Workload {
+        @JsonProperty("reserve-commit") RESERVE_COMMIT,
+        @JsonProperty("stock-reads") STOCK_READS
+    }
+
+    enum ReadPath {
+        @JsonProperty("mvc") MVC,
+        @JsonProperty("reactive") REACTIVE
+    }
+}
@@ -0,0 +1,119 @@
+package com.enterprise.inventory.loadtest;
+
+import com.enterprise.inventory.InventoryServiceApplication;
+import com.enterprise.inventoryquery.InventoryQueryServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Postgres, Redis and Kafka in containers, with inventory-service started in-process against them
+ * (plus inventory-query-service for reactive read scenarios). Images match docker-compose-local.yml.
+ */
+final class LoadTestEnvironment implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+        .withDatabaseName("inventory_db")
+        .withUsername("inventory_user")
+        .withPassword("inventory_pass");
+
+    private final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private final KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.4.0"));
+
+    private ConfigurableApplicationContext application;
+    private ConfigurableApplicationContext queryApplication;
+
+    ConfigurableApplicationContext start(LoadScenario scenario) {
+        Startables.deepStart(postgres, redis, kafka).join();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", postgres.getJdbcUrl());
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("spring.redis.host", redis.getHost());
+        properties.put("spring.redis.port", redis.getMappedPort(6379));
+        properties.put("spring.data.redis.host", redis.getHost());
+        properties.put("spring.data.redis.port", redis.getMappedPort(6379));
+        properties.put("spring.kafka.bootstrap-servers", kafka.getBootstrapServers());
+        // inventory-query-service puts R2DBC on the classpath; a second transaction manager would be ambiguous
+        properties.put("spring.autoconfigure.exclude",
+            "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration");
+        properties.put("management.dynatrace.metrics.export.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        properties.putAll(scenario.applicationProperties());
+
+        this.application = new SpringApplicationBuilder(InventoryServiceApplication.class)
+            .properties(properties)
+            .run();
+
+        if (scenario.readPath() == LoadScenario.ReadPath.REACTIVE) {
+            this.queryApplication = startQueryService();
+        }
+        return application;
+    }
+
+    /**
+     * inventory-query-service in the same JVM, for read comparisons at equal hardware.
+     * Both jars ship an application.yml and inventory-service's is found first on the classpath,
+     * so everything the query service needs is passed explicitly and the blocking stack it
+     * would otherwise pick up from the shared classpath is switched off.
+     */
+    private ConfigurableApplicationContext startQueryService() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.r2dbc.url", postgres.getJdbcUrl().replaceFirst("^jdbc:", "r2dbc:"));
+        properties.put("spring.r2dbc.username", postgres.getUsername());
+        properties.put("spring.r2dbc.password", postgres.getPassword());
+        properties.put("spring.data.redis.host", redis.getHost());
+        properties.put("spring.data.redis.port", redis.getMappedPort(6379));
+        properties.put("spring.autoconfigure.exclude", String.join(",",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+            "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration",
+            "org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration"));
+        properties.put("management.dynatrace.metrics.export.enabled", false);
+        properties.put("logging.level.root", "WARN");
+
+        return new SpringApplicationBuilder(InventoryQueryServiceApplication.class)
+            .web(WebApplicationType.REACTIVE)
+            .properties(properties)
+            .run();
+    }
+
+    URI baseUri() {
+        return uriOf(application);
+    }
+
+    URI queryBaseUri() {
+        return queryApplication != null ? uriOf(queryApplication) : null;
+    }
+
+    private static URI uriOf(ConfigurableApplicationContext context) {
+        return URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    @Override
+    public void close() {
+        if (queryApplication != null) {
+            queryApplication.close();
+        }
+        if (application != null) {
+            application.close();
+        }
+        kafka.stop();
+        redis.stop();
+        postgres.stop();
+    }
+}
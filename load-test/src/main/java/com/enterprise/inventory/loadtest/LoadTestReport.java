@@ -0,0 +1,69 @@
+package com.enterprise.inventory.loadtest;
+
+import com.enterprise.inventory.loadtest.OperationStats.Outcome;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of one scenario run, printed as a table and written as JSON.
+ */
+record LoadTestReport(
+    LoadScenario scenario,
+    Map<String, OperationReport> operations,
+    ServerCounters server
+) {
+
+    static LoadTestReport of(LoadScenario scenario, Map<String, OperationStats> stats, ServerCounters server) {
+        Map<String, OperationReport> operations = new LinkedHashMap<>();
+        stats.forEach((name, operation) ->
+            operations.put(name, OperationReport.of(operation, scenario.durationSeconds())));
+        return new LoadTestReport(scenario, operations, server);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nScenario %s: %d stores x %d SKUs, zipf %.2f, %d clients, %ds measured%n",
+            scenario.name(), scenario.stores(), scenario.skus(), scenario.zipfExponent(),
+            scenario.concurrency(), scenario.durationSeconds());
+        out.printf("%-8s %10s %10s %9s %9s %9s %9s %9s %9s %9s%n",
+            "op", "count", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "rejected", "fallback", "errors");
+        operations.forEach((name, operation) -> out.printf("%-8s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9d %9d %9d%n",
+            name, operation.count(), operation.throughputPerSecond(),
+            operation.p50Millis(), operation.p99Millis(), operation.p999Millis(), operation.maxMillis(),
+            operation.outcomes().get(Outcome.REJECTED), operation.outcomes().get(Outcome.FALLBACK),
+            operation.outcomes().get(Outcome.ERROR)));
+        out.printf("server: %d retried calls, %d optimistic-lock conflicts, %d circuit-breaker fallbacks, %d not permitted%n",
+            server.retriedCalls(), server.optimisticLockConflicts(),
+            server.circuitBreakerFallbacks(), server.circuitBreakerRejections());
+    }
+
+    record OperationReport(
+        long count,
+        double throughputPerSecond,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis,
+        Map<Outcome, Long> outcomes
+    ) {
+
+        static OperationReport of(OperationStats stats, int durationSeconds) {
+            Histogram histogram = stats.histogram();
+            return new OperationReport(
+                histogram.getTotalCount(),
+                (double) histogram.getTotalCount() / durationSeconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                stats.outcomes()
+            );
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+}
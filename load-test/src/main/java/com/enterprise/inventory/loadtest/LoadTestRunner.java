@@ -0,0 +1,54 @@
+package com.enterprise.inventory.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs one load test scenario end to end: containers up, service started, inventory seeded,
+ * warmup, measured load, report. Results go to stdout and target/load-test/.
+ *
+ * Usage: {@code mvn -pl load-test exec:java -Dexec.args=load-test/scenarios/flash-sale.yml}
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path scenarioFile = Path.of(args.length > 0 ? args[0] : "load-test/scenarios/flash-sale.yml");
+        LoadScenario scenario = new ObjectMapper(new YAMLFactory()).readValue(scenarioFile.toFile(), LoadScenario.class);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        try (LoadTestEnvironment environment = new LoadTestEnvironment()) {
+            ConfigurableApplicationContext application = environment.start(scenario);
+            new InventorySeeder(application.getBean(DataSource.class)).seed(scenario);
+
+            MeterRegistry meterRegistry = application.getBean(MeterRegistry.class);
+            AtomicReference<ServerCounters> baseline = new AtomicReference<>();
+            Map<String, OperationStats> stats = new LoadGenerator(scenario, environment.baseUri(), environment.queryBaseUri(), objectMapper)
+                .run(() -> baseline.set(ServerCounters.read(meterRegistry)));
+
+            LoadTestReport report = LoadTestReport.of(scenario, stats,
+                ServerCounters.read(meterRegistry).minus(baseline.get()));
+            report.print(System.out);
+            write(report, objectMapper);
+        }
+    }
+
+    private static void write(LoadTestReport report, ObjectMapper objectMapper) throws IOException {
+        Path directory = Files.createDirectories(Path.of("target", "load-test"));
+        Path file = directory.resolve(report.scenario().name() + "-" + System.currentTimeMillis() + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        System.out.println("Results written to " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,59 @@
+package com.enterprise.inventory.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counts for one API operation, safe to record from any thread.
+ * Latencies are recorded in microseconds with three significant digits.
+ */
+final class OperationStats {
+
+    enum Outcome {
+        /** 200 with success=true. */
+        SUCCESS,
+        /** Business rejection: insufficient stock, expired or unknown reservation. */
+        REJECTED,
+        /** 200 with success=false: the circuit-breaker fallback answered. */
+        FALLBACK,
+        /** Any other status, a timeout or an I/O failure. */
+        ERROR
+    }
+
+    private final Recorder latencies = new Recorder(3);
+    private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+
+    OperationStats() {
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    void record(long elapsedNanos, Outcome outcome) {
+        latencies.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        outcomes.get(outcome).increment();
+    }
+
+    /**
+     * Drop everything recorded so far, at the end of the warmup.
+     */
+    void reset() {
+        latencies.reset();
+        outcomes.values().forEach(LongAdder::reset);
+    }
+
+    Histogram histogram() {
+        return latencies.getIntervalHistogram();
+    }
+
+    Map<Outcome, Long> outcomes() {
+        Map<Outcome, Long> counts = new EnumMap<>(Outcome.class);
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+}
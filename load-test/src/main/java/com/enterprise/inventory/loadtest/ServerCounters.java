@@ -0,0 +1,61 @@
+package com.enterprise.inventory.loadtest;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Statistic;
+import io.micrometer.core.instrument.search.Search;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Server-side counters read from the in-process inventory-service MeterRegistry.
+ *
+ * @param retriedCalls              resilience4j calls that needed at least one retry
+ * @param optimisticLockConflicts   version conflicts recorded by the inventory repository
+ * @param circuitBreakerFallbacks   reserve fallbacks recorded by ReserveStockUseCase
+ * @param circuitBreakerRejections  calls refused outright by an open circuit breaker
+ */
+record ServerCounters(
+    long retriedCalls,
+    long optimisticLockConflicts,
+    long circuitBreakerFallbacks,
+    long circuitBreakerRejections
+) {
+
+    private static final Set<String> RETRIED_KINDS = Set.of("successful_with_retry", "failed_with_retry");
+
+    static ServerCounters read(MeterRegistry registry) {
+        return new ServerCounters(
+            sum(registry.find("resilience4j.retry.calls"), meter -> RETRIED_KINDS.contains(meter.getId().getTag("kind"))),
+            sum(registry.find("inventory.sync.failures.by_store").tag("error_type", "optimistic-lock-conflict"), meter -> true),
+            sum(registry.find("inventory.sync.failures.by_store").tag("error_type", "circuit-breaker-open"), meter -> true),
+            sum(registry.find("resilience4j.circuitbreaker.not.permitted.calls"), meter -> true)
+        );
+    }
+
+    ServerCounters minus(ServerCounters baseline) {
+        return new ServerCounters(
+            retriedCalls - baseline.retriedCalls,
+            optimisticLockConflicts - baseline.optimisticLockConflicts,
+            circuitBreakerFallbacks - baseline.circuitBreakerFallbacks,
+            circuitBreakerRejections - baseline.circuitBreakerRejections
+        );
+    }
+
+    private static long sum(Search search, Predicate<Meter> filter) {
+        double total = 0;
+        for (Meter meter : search.meters()) {
+            if (!filter.test(meter)) {
+                continue;
+            }
+            for (Measurement measurement : meter.measure()) {
+                if (measurement.getStatistic() == Statistic.COUNT) {
+                    total += measurement.getValue();
+                }
+            }
+        }
+        return (long) total;
+    }
+}
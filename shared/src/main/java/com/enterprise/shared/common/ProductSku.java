@@ -1,14 +1,22 @@
 package com.enterprise.shared.common;
 
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
  * Value Object representing a product SKU.
  * Implements immutability and validation for product identification.
+ *
+ * {@link #of(String)} returns a canonical instance per SKU; a SKU seen before is returned
+ * from the interning table without running the validation again.
  */
-public class ProductSku {
+public final class ProductSku {
     private static final Pattern SKU_PATTERN = Pattern.compile("^[A-Z0-9]{8,12}$");
+    // Bounds the table against unbounded distinct input; past it, of() simply allocates
+    private static final int MAX_INTERNED = 200_000;
+    private static final Map<String, ProductSku> INTERNED = new ConcurrentHashMap<>();
+
     private final String value;
 
     public ProductSku(String value) {
@@ -24,6 +32,23 @@ public class ProductSku {
         this.value = normalizedValue;
     }
 
+    public static ProductSku of(String value) {
+        if (value != null) {
+            ProductSku interned = INTERNED.get(value);
+            if (interned != null) {
+                return interned;
+            }
+        }
+
+        ProductSku sku = new ProductSku(value);
+        if (INTERNED.size() >= MAX_INTERNED) {
+            return sku;
+        }
+        // Keyed by the normalized value only, so untrimmed or lower-case input cannot fill the table
+        ProductSku canonical = INTERNED.putIfAbsent(sku.value, sku);
+        return canonical != null ? canonical : sku;
+    }
+
     public String getValue() {
         return value;
     }
@@ -33,12 +58,12 @@ public class ProductSku {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         ProductSku that = (ProductSku) obj;
-        return Objects.equals(value, that.value);
+        return value.equals(that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return value.hashCode();
     }
 
     @Override
@@ -1,33 +1,47 @@
 package com.enterprise.shared.common;
 
-import java.util.Objects;
-
 /**
  * Value Object representing a quantity of items.
  * Ensures validation and immutability for inventory quantities.
+ *
+ * Backed by a primitive int; instances for small values are pre-allocated and shared,
+ * so arithmetic on typical reservation sizes does not allocate.
  */
-public class Quantity {
-    private final Integer value;
+public final class Quantity {
+    private static final int CACHE_SIZE = 1024;
+    private static final Quantity[] CACHE = new Quantity[CACHE_SIZE];
 
-    public Quantity(Integer value) {
-        if (value == null) {
-            throw new IllegalArgumentException("Quantity cannot be null");
+    static {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            CACHE[i] = new Quantity(i);
         }
+    }
+
+    private final int value;
+
+    private Quantity(int value) {
+        this.value = value;
+    }
+
+    public static Quantity of(int value) {
         if (value < 0) {
             throw new IllegalArgumentException("Quantity cannot be negative");
         }
-        this.value = value;
+        return value < CACHE_SIZE ? CACHE[value] : new Quantity(value);
     }
 
     public static Quantity of(Integer value) {
-        return new Quantity(value);
+        if (value == null) {
+            throw new IllegalArgumentException("Quantity cannot be null");
+        }
+        return of(value.intValue());
     }
 
     public static Quantity zero() {
-        return new Quantity(0);
+        return CACHE[0];
     }
 
-    public Integer getValue() {
+    public int getValue() {
         return value;
     }
 
@@ -40,7 +54,7 @@ public class Quantity {
     }
 
     public Quantity add(Quantity other) {
-        return new Quantity(this.value + other.value);
+        return of(this.value + other.value);
     }
 
     public Quantity subtract(Quantity other) {
@@ -48,7 +62,7 @@ public class Quantity {
         if (result < 0) {
             throw new IllegalArgumentException("Cannot subtract more than available quantity");
         }
-        return new Quantity(result);
+        return of(result);
     }
 
     public boolean isGreaterThan(Quantity other) {
@@ -64,16 +78,16 @@ public class Quantity {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Quantity quantity = (Quantity) obj;
-        return Objects.equals(value, quantity.value);
+        return value == quantity.value;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Integer.hashCode(value);
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return Integer.toString(value);
     }
 }
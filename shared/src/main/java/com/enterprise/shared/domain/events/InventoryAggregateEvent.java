@@ -0,0 +1,14 @@
+package com.enterprise.shared.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Implemented by events that belong to a single inventory aggregate (one store and product).
+ * Lets publishers route every event of an aggregate to the same partition.
+ */
+public interface InventoryAggregateEvent {
+
+    UUID getStoreId();
+
+    String getProductSku();
+}
@@ -7,7 +7,7 @@ import java.util.UUID;
  * Event fired when stock is confirmed/committed after successful transaction.
  * This reduces available inventory permanently.
  */
-public class StockCommittedEvent extends DomainEvent {
+public class StockCommittedEvent extends DomainEvent implements InventoryAggregateEvent {
     private final UUID storeId;
     private final String productSku;
     private final Integer quantity;
@@ -7,7 +7,7 @@ import java.util.UUID;
  * Event fired when stock reservation is released.
  * Critical for freeing up inventory when transactions fail or timeout.
  */
-public class StockReservationReleasedEvent extends DomainEvent {
+public class StockReservationReleasedEvent extends DomainEvent implements InventoryAggregateEvent {
     private final UUID storeId;
     private final String productSku;
     private final Integer quantity;
@@ -7,7 +7,7 @@ import java.util.UUID;
  * Event fired when stock is reserved for a specific store.
  * Critical for maintaining inventory consistency across distributed stores.
  */
-public class StockReservedEvent extends DomainEvent {
+public class StockReservedEvent extends DomainEvent implements InventoryAggregateEvent {
     private final UUID storeId;
     private final String productSku;
     private final Integer quantity;
@@ -0,0 +1,138 @@
+package com.enterprise.shared.observability;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Hit, miss, eviction and load-latency counts for one cache segment, kept both cumulatively
+ * and in a ring of fixed-width time slots so rates can be read over sliding windows.
+ *
+ * Recording is lock-free: counts go to LongAdders, and a slot that has aged out is replaced
+ * with a compare-and-set by whichever thread first records into it. Increments racing with that
+ * replacement may land in the retired slot, so window figures are approximate at slot edges;
+ * the cumulative totals are exact.
+ */
+public final class CacheWindowStats {
+
+    static final long SLOT_MILLIS = 5_000;
+
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Slot> slots;
+    private final Slot total = new Slot(Long.MIN_VALUE);
+
+    CacheWindowStats(Duration maxWindow, LongSupplier clock) {
+        this.clock = clock;
+        this.slots = new AtomicReferenceArray<>((int) (maxWindow.toMillis() / SLOT_MILLIS) + 1);
+    }
+
+    public void recordHit() {
+        total.hits.increment();
+        currentSlot().hits.increment();
+    }
+
+    public void recordMiss() {
+        total.misses.increment();
+        currentSlot().misses.increment();
+    }
+
+    public void recordLookup(boolean hit) {
+        if (hit) {
+            recordHit();
+        } else {
+            recordMiss();
+        }
+    }
+
+    public void recordEviction() {
+        total.evictions.increment();
+        currentSlot().evictions.increment();
+    }
+
+    /**
+     * Record the time spent loading a missed entry from the next level down.
+     */
+    public void recordLoad(long nanos) {
+        total.loads.increment();
+        total.loadNanos.add(nanos);
+        Slot slot = currentSlot();
+        slot.loads.increment();
+        slot.loadNanos.add(nanos);
+    }
+
+    public Snapshot total() {
+        return total.snapshot();
+    }
+
+    /**
+     * Counts over the current slot plus as many whole slots before it as the window spans.
+     */
+    public Snapshot window(Duration window) {
+        long currentIndex = Math.floorDiv(clock.getAsLong(), SLOT_MILLIS);
+        long oldestIndex = currentIndex - Math.min(window.toMillis() / SLOT_MILLIS, slots.length() - 1);
+
+        long hits = 0, misses = 0, evictions = 0, loads = 0, loadNanos = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (slot != null && slot.index >= oldestIndex && slot.index <= currentIndex) {
+                hits += slot.hits.sum();
+                misses += slot.misses.sum();
+                evictions += slot.evictions.sum();
+                loads += slot.loads.sum();
+                loadNanos += slot.loadNanos.sum();
+            }
+        }
+        return new Snapshot(hits, misses, evictions, loads, loadNanos);
+    }
+
+    private Slot currentSlot() {
+        long index = Math.floorDiv(clock.getAsLong(), SLOT_MILLIS);
+        int position = (int) Math.floorMod(index, (long) slots.length());
+
+        Slot slot = slots.get(position);
+        while (slot == null || slot.index < index) {
+            Slot fresh = new Slot(index);
+            if (slots.compareAndSet(position, slot, fresh)) {
+                return fresh;
+            }
+            slot = slots.get(position);
+        }
+        // A clock step backwards lands in a newer slot; the counts are still kept
+        return slot;
+    }
+
+    private static final class Slot {
+        private final long index;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+
+        private Slot(long index) {
+            this.index = index;
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(hits.sum(), misses.sum(), evictions.sum(), loads.sum(), loadNanos.sum());
+        }
+    }
+
+    public record Snapshot(long hits, long misses, long evictions, long loads, long loadNanos) {
+
+        public long requests() {
+            return hits + misses;
+        }
+
+        public double hitRatio() {
+            long requests = requests();
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        public double meanLoadMillis() {
+            return loads == 0 ? 0.0 : (double) loadNanos / loads / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -2,19 +2,33 @@ package com.enterprise.shared.observability;
 
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.context.Scope;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Supplier;
+
 /**
  * Distributed tracing utility for Dynatrace integration.
  * Provides consistent tracing across all microservices.
+ *
+ * Spans dropped by the sampler are not recording, so callers should guard attribute work with
+ * Span.isRecording() or pass a supplier to addSpanAttribute. joinTraced lets an inner layer
+ * (a use case called from a controller) add to the span of the outer operation instead of
+ * opening a nested one.
  */
 @Component
 public class DistributedTracing {
 
+    /**
+     * The span opened by executeTraced, so an inner joinTraced can tell it apart from spans
+     * opened by instrumentation (for example the HTTP server span).
+     */
+    private static final ContextKey<Span> OPERATION_SPAN = ContextKey.named("inventory-operation-span");
+
     private final Tracer tracer;
 
     public DistributedTracing(OpenTelemetry openTelemetry) {
@@ -39,6 +53,15 @@ public class DistributedTracing {
         span.setAttribute(key, value);
     }
 
+    /**
+     * Set an attribute whose value is only computed when the span is sampled.
+     */
+    public void addSpanAttribute(Span span, String key, Supplier<String> value) {
+        if (span.isRecording()) {
+            span.setAttribute(key, value.get());
+        }
+    }
+
     public void recordException(Span span, Exception exception) {
         span.recordException(exception);
     }
@@ -53,19 +76,54 @@ public class DistributedTracing {
 
     /**
      * Executes a traced operation with automatic span management.
+     * Unchecked exceptions propagate unchanged; checked ones are wrapped in a RuntimeException.
      */
     public <T> T executeTraced(String operationName, TracedOperation<T> operation) {
         Span span = startSpan(operationName);
-        try (Scope scope = makeSpanActive(span)) {
+        try (Scope scope = Context.current().with(span).with(OPERATION_SPAN, span).makeCurrent()) {
             return operation.execute(span);
+        } catch (RuntimeException | Error e) {
+            recordFailure(span, e);
+            throw e;
         } catch (Exception e) {
-            recordException(span, e);
+            recordFailure(span, e);
             throw new RuntimeException(e);
         } finally {
             finishSpan(span);
         }
     }
 
+    /**
+     * Runs the operation against the span of an enclosing executeTraced on this thread, marking
+     * where it started with an event; without one, behaves like executeTraced. Failures are
+     * recorded by the enclosing operation when they propagate to it.
+     */
+    public <T> T joinTraced(String operationName, TracedOperation<T> operation) {
+        Context context = Context.current();
+        Span enclosing = context.get(OPERATION_SPAN);
+        if (enclosing == null || enclosing != Span.fromContext(context)) {
+            return executeTraced(operationName, operation);
+        }
+
+        if (enclosing.isRecording()) {
+            enclosing.addEvent(operationName);
+        }
+        try {
+            return operation.execute(enclosing);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void recordFailure(Span span, Throwable failure) {
+        if (span.isRecording()) {
+            span.recordException(failure);
+            span.setStatus(StatusCode.ERROR);
+        }
+    }
+
     @FunctionalInterface
     public interface TracedOperation<T> {
         T execute(Span span) throws Exception;
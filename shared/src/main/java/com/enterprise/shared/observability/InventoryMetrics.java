@@ -1,24 +1,66 @@
 package com.enterprise.shared.observability;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Custom business metrics for Dynatrace monitoring.
  * Provides key inventory KPIs and operational metrics.
+ *
+ * Per-store meters on the reserve, commit and query paths are resolved once per store and then
+ * recorded through cached handles, keyed by the store id itself, so a request pays neither a
+ * registry lookup nor a key allocation. At most maxStoresPerMetric stores get their own series.
+ * Stock levels follow the same bound: a per-store distribution, plus gauges for the top SKUs.
  */
 @Component
 public class InventoryMetrics {
 
+    /**
+     * Sliding windows reported for every cache segment.
+     */
+    public static final List<Duration> CACHE_WINDOWS =
+        List.of(Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(15));
+
     private final MeterRegistry meterRegistry;
-    private final ConcurrentHashMap<String, AtomicInteger> inventoryLevels = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Counter> storeCounters = new ConcurrentHashMap<>();
+    private final Map<CacheSegment, CacheWindowStats> cacheSegments = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    // Per-store handles for the request paths
+    private final StoreMeterCache<Counter> reservationsByStore;
+    private final StoreMeterCache<Counter> commitsByStore;
+    private final StoreMeterCache<Timer> reservationTimeByStore;
+    private final StoreMeterCache<Timer> syncTimeByStore;
+    private final StoreMeterCache<Timer> queryTimeByStore;
+    private final StoreMeterCache<Counter> hotKeyPromotionsByStore;
+    private final StoreMeterCache<Counter> contendedKeysByStore;
+
+    // Pinned virtual threads by culprit frame, capped like the per-store meters
+    private final Map<String, Timer> pinnedTimeByFrame = new ConcurrentHashMap<>();
+    private final int maxPinnedFrames;
+
+    // Stock levels: gauges for the top SKUs only, everything else as per-store distributions
+    private final StockLevelTelemetry stockLevels;
+    private final StoreMeterCache<DistributionSummary> stockLevelsByStore;
 
     // Counters for business events
     private final Counter stockReservations;
@@ -26,14 +68,34 @@ public class InventoryMetrics {
     private final Counter stockReleases;
     private final Counter syncFailures;
     private final Counter oversellEvents;
+    private final Counter outboxEventsPublished;
+    private final Counter outboxPublishFailures;
+
+    // Gauges for the outbox relay
+    private final AtomicLong outboxRelayLagMillis = new AtomicLong();
+    private final AtomicLong outboxLastBatchSize = new AtomicLong();
 
     // Timers for performance tracking
     private final Timer stockReservationTime;
     private final Timer inventorySyncTime;
     private final Timer stockQueryTime;
+    private final Timer outboxRelayBatchTime;
+    private final Timer reservationExpiryLag;
 
     public InventoryMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, 1000, 100, 5, 4, Duration.ofSeconds(15), 50);
+    }
+
+    @Autowired
+    public InventoryMetrics(MeterRegistry meterRegistry,
+                            @Value("${inventory.metrics.max-stores-per-metric:1000}") int maxStoresPerMetric,
+                            @Value("${inventory.metrics.stock-levels.top-skus:100}") int topSkus,
+                            @Value("${inventory.metrics.stock-levels.critical-level:5}") int criticalStockLevel,
+                            @Value("${inventory.metrics.stock-levels.critical-weight:4}") long criticalStockWeight,
+                            @Value("${inventory.metrics.stock-levels.refresh-interval:15s}") Duration stockLevelRefreshInterval,
+                            @Value("${inventory.metrics.max-pinned-frames:50}") int maxPinnedFrames) {
         this.meterRegistry = meterRegistry;
+        this.maxPinnedFrames = maxPinnedFrames;
 
         // Initialize counters
         this.stockReservations = Counter.builder("inventory.stock.reservations")
@@ -61,6 +123,27 @@ public class InventoryMetrics {
             .tag("service", "inventory")
             .register(meterRegistry);
 
+        this.outboxEventsPublished = Counter.builder("inventory.outbox.events.published")
+            .description("Number of domain events relayed from the outbox to Kafka")
+            .tag("service", "inventory")
+            .register(meterRegistry);
+
+        this.outboxPublishFailures = Counter.builder("inventory.outbox.publish.failures")
+            .description("Number of outbox relay batches that failed to publish")
+            .tag("service", "inventory")
+            .register(meterRegistry);
+
+        Gauge.builder("inventory.outbox.relay.lag", outboxRelayLagMillis, AtomicLong::doubleValue)
+            .description("Age in milliseconds of the oldest event in the last relayed batch")
+            .tag("service", "inventory")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+
+        Gauge.builder("inventory.outbox.relay.batch.size", outboxLastBatchSize, AtomicLong::doubleValue)
+            .description("Number of events in the last relayed batch")
+            .tag("service", "inventory")
+            .register(meterRegistry);
+
         // Initialize timers
         this.stockReservationTime = Timer.builder("inventory.stock.reservation.time")
             .description("Time taken to reserve stock")
@@ -76,34 +159,70 @@ public class InventoryMetrics {
             .description("Time taken to query stock levels")
             .tag("service", "inventory")
             .register(meterRegistry);
+
+        this.outboxRelayBatchTime = Timer.builder("inventory.outbox.relay.batch.time")
+            .description("Time taken to relay one outbox batch")
+            .tag("service", "inventory")
+            .register(meterRegistry);
+
+        this.reservationExpiryLag = Timer.builder("inventory.reservation.expiry.lag")
+            .description("Delay between a reservation's expiry time and the release of its stock")
+            .tag("service", "inventory")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+
+        this.reservationsByStore = new StoreMeterCache<>(storeId -> Counter.builder("inventory.stock.reservations.by_store")
+            .description("Stock reservations by store")
+            .tag("store_id", storeId)
+            .register(meterRegistry), maxStoresPerMetric);
+
+        this.commitsByStore = new StoreMeterCache<>(storeId -> Counter.builder("inventory.stock.commits.by_store")
+            .description("Stock commits by store")
+            .tag("store_id", storeId)
+            .register(meterRegistry), maxStoresPerMetric);
+
+        this.reservationTimeByStore = new StoreMeterCache<>(storeId -> Timer.builder("inventory.stock.reservation.time")
+            .tag("store_id", storeId)
+            .register(meterRegistry), maxStoresPerMetric);
+
+        this.syncTimeByStore = new StoreMeterCache<>(storeId -> Timer.builder("inventory.sync.time")
+            .tag("store_id", storeId)
+            .register(meterRegistry), maxStoresPerMetric);
+
+        this.queryTimeByStore = new StoreMeterCache<>(storeId -> Timer.builder("inventory.stock.query.time")
+            .tag("store_id", storeId)
+            .register(meterRegistry), maxStoresPerMetric);
+
+        this.hotKeyPromotionsByStore = new StoreMeterCache<>(storeId -> Counter.builder("inventory.hot_keys.promotions")
+            .description("Number of inventory rows promoted to striped stock buckets")
+            .tag("service", "inventory")
+            .tag("store_id", storeId)
+            .register(meterRegistry), maxStoresPerMetric);
+
+        this.contendedKeysByStore = new StoreMeterCache<>(storeId -> Counter.builder("inventory.contention.hot_keys")
+            .description("Number of inventory rows whose conflict rate crossed the contention threshold")
+            .tag("service", "inventory")
+            .tag("store_id", storeId)
+            .register(meterRegistry), maxStoresPerMetric);
+
+        this.stockLevels = new StockLevelTelemetry(meterRegistry, topSkus, criticalStockLevel,
+            criticalStockWeight, stockLevelRefreshInterval, System::currentTimeMillis);
+
+        this.stockLevelsByStore = new StoreMeterCache<>(storeId -> DistributionSummary.builder("inventory.stock.level.distribution")
+            .description("Available stock after each write, across all SKUs of the store")
+            .tag("store_id", storeId)
+            .serviceLevelObjectives(0, 5, 20, 100, 1000)
+            .register(meterRegistry), maxStoresPerMetric);
     }
 
-    public void recordStockReservation(String storeId) {
-        // Increment base counter
+    public void recordStockReservation(UUID storeId) {
         stockReservations.increment();
-
-        // Create store-specific counter
-        Counter storeCounter = storeCounters.computeIfAbsent(
-            "reservations_" + storeId,
-            key -> Counter.builder("inventory.stock.reservations.by_store")
-                .description("Stock reservations by store")
-                .tag("store_id", storeId)
-                .register(meterRegistry)
-        );
-        storeCounter.increment();
+        reservationsByStore.get(storeId).increment();
     }
 
-    public void recordStockCommit(String storeId) {
+    public void recordStockCommit(UUID storeId) {
         stockCommits.increment();
-
-        Counter storeCounter = storeCounters.computeIfAbsent(
-            "commits_" + storeId,
-            key -> Counter.builder("inventory.stock.commits.by_store")
-                .description("Stock commits by store")
-                .tag("store_id", storeId)
-                .register(meterRegistry)
-        );
-        storeCounter.increment();
+        commitsByStore.get(storeId).increment();
     }
 
     public void recordStockRelease(String storeId, String reason) {
@@ -134,6 +253,14 @@ public class InventoryMetrics {
         storeCounter.increment();
     }
 
+    public void recordHotKeyPromotion(UUID storeId) {
+        hotKeyPromotionsByStore.get(storeId).increment();
+    }
+
+    public void recordContendedKey(UUID storeId) {
+        contendedKeysByStore.get(storeId).increment();
+    }
+
     public void recordOversellEvent(String storeId, String productSku) {
         oversellEvents.increment();
 
@@ -152,48 +279,157 @@ public class InventoryMetrics {
         return Timer.start(meterRegistry);
     }
 
-    public void recordStockReservationTime(Timer.Sample sample, String storeId) {
-        sample.stop(Timer.builder("inventory.stock.reservation.time")
-            .tag("store_id", storeId)
-            .register(meterRegistry));
+    public void recordStockReservationTime(Timer.Sample sample, UUID storeId) {
+        sample.stop(reservationTimeByStore.get(storeId));
     }
 
     public Timer.Sample startInventorySyncTimer() {
         return Timer.start(meterRegistry);
     }
 
-    public void recordInventorySyncTime(Timer.Sample sample, String storeId) {
-        sample.stop(Timer.builder("inventory.sync.time")
-            .tag("store_id", storeId)
-            .register(meterRegistry));
+    public void recordInventorySyncTime(Timer.Sample sample, UUID storeId) {
+        sample.stop(syncTimeByStore.get(storeId));
     }
 
     public Timer.Sample startStockQueryTimer() {
         return Timer.start(meterRegistry);
     }
 
-    public void recordStockQueryTime(Timer.Sample sample, String storeId) {
-        sample.stop(Timer.builder("inventory.stock.query.time")
-            .tag("store_id", storeId)
+    public void recordStockQueryTime(Timer.Sample sample, UUID storeId) {
+        sample.stop(queryTimeByStore.get(storeId));
+    }
+
+    public void recordOutboxBatchPublished(int eventCount, Duration oldestEventAge, Duration batchTime) {
+        outboxEventsPublished.increment(eventCount);
+        outboxRelayLagMillis.set(oldestEventAge.toMillis());
+        outboxLastBatchSize.set(eventCount);
+        outboxRelayBatchTime.record(batchTime);
+    }
+
+    public void recordOutboxPublishFailure() {
+        outboxPublishFailures.increment();
+    }
+
+    public void recordReservationExpiryLag(Duration lag) {
+        reservationExpiryLag.record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    /**
+     * Record a virtual thread that stayed pinned to its carrier, keyed by the frame responsible.
+     * Once maxPinnedFrames frames have a timer, further frames are recorded under frame=other.
+     */
+    public void recordVirtualThreadPinned(String frame, Duration duration) {
+        Timer timer = pinnedTimeByFrame.get(frame);
+        if (timer == null) {
+            timer = registerPinnedFrame(frame);
+        }
+        timer.record(duration);
+    }
+
+    private synchronized Timer registerPinnedFrame(String frame) {
+        Timer timer = pinnedTimeByFrame.get(frame);
+        if (timer != null) {
+            return timer;
+        }
+        String tag = pinnedTimeByFrame.size() < maxPinnedFrames ? frame : StoreMeterCache.OVERFLOW_TAG;
+        timer = pinnedTimeByFrame.computeIfAbsent(tag, key -> Timer.builder("inventory.virtual_threads.pinned")
+            .description("Time virtual threads spent pinned to their carrier thread")
+            .tag("service", "inventory")
+            .tag("frame", key)
             .register(meterRegistry));
+        return timer;
     }
 
-    public void updateInventoryLevel(String productSku, int level) {
-        inventoryLevels.put(productSku, new AtomicInteger(level));
+    /**
+     * Expose the state of the database concurrency limiter.
+     */
+    public <T> void registerDatabaseConcurrencyLimit(T limiter, ToDoubleFunction<T> availablePermits,
+                                                     ToDoubleFunction<T> waiting) {
+        Gauge.builder("inventory.db.concurrency.available", limiter, availablePermits)
+            .description("Database permits currently free")
+            .tag("service", "inventory")
+            .register(meterRegistry);
 
-        // Register gauge for this specific product - API correta
-        Gauge.builder("inventory.stock.level", inventoryLevels.get(productSku), AtomicInteger::doubleValue)
-            .tag("product_sku", productSku)
+        Gauge.builder("inventory.db.concurrency.waiting", limiter, waiting)
+            .description("Threads waiting for a database permit")
+            .tag("service", "inventory")
             .register(meterRegistry);
     }
 
-    public void updateCacheHitRate(double hitRate) {
-        // Create a simple holder for the hit rate value
-        AtomicInteger hitRateHolder = new AtomicInteger((int)(hitRate * 100)); // Convert to percentage
+    /**
+     * Statistics handle for one cache segment, identified by the key prefix it serves and the
+     * cache level (for example "l1" or "l2"). Resolve it once and record through it; the meters
+     * read from the handle when scraped, so recording never touches the registry.
+     */
+    public CacheWindowStats cacheStats(String keyPrefix, String level) {
+        return cacheSegments.computeIfAbsent(new CacheSegment(keyPrefix, level), this::registerCacheSegment);
+    }
 
-        // Register gauge with correct API
-        Gauge.builder("inventory.cache.hit.rate", hitRateHolder, value -> value.get() / 100.0)
-            .tag("service", "inventory")
+    /**
+     * Every cache segment resolved so far, in resolution order.
+     */
+    public Map<CacheSegment, CacheWindowStats> getCacheStats() {
+        synchronized (cacheSegments) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(cacheSegments));
+        }
+    }
+
+    private CacheWindowStats registerCacheSegment(CacheSegment segment) {
+        CacheWindowStats stats = new CacheWindowStats(CACHE_WINDOWS.get(CACHE_WINDOWS.size() - 1),
+            System::currentTimeMillis);
+        Tags tags = Tags.of("service", "inventory", "key_prefix", segment.keyPrefix(), "level", segment.level());
+
+        FunctionCounter.builder("inventory.cache.requests", stats, s -> s.total().hits())
+            .description("Lookups served by this cache segment")
+            .tags(tags)
+            .tag("result", "hit")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("inventory.cache.requests", stats, s -> s.total().misses())
+            .description("Lookups not served by this cache segment")
+            .tags(tags)
+            .tag("result", "miss")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("inventory.cache.evictions", stats, s -> s.total().evictions())
+            .description("Entries evicted by size or age")
+            .tags(tags)
             .register(meterRegistry);
+
+        FunctionTimer.builder("inventory.cache.load", stats,
+                s -> s.total().loads(), s -> s.total().loadNanos(), TimeUnit.NANOSECONDS)
+            .description("Time taken to load a missed entry from the next level down")
+            .tags(tags)
+            .register(meterRegistry);
+
+        for (Duration window : CACHE_WINDOWS) {
+            String windowTag = window.toMinutes() + "m";
+
+            Gauge.builder("inventory.cache.hit.ratio", stats, s -> s.window(window).hitRatio())
+                .description("Share of lookups served by this cache segment over the window")
+                .tags(tags)
+                .tag("window", windowTag)
+                .register(meterRegistry);
+
+            Gauge.builder("inventory.cache.load.time.mean", stats, s -> s.window(window).meanLoadMillis())
+                .description("Mean time to load a missed entry over the window")
+                .tags(tags)
+                .tag("window", windowTag)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        }
+
+        return stats;
+    }
+
+    public record CacheSegment(String keyPrefix, String level) {}
+
+    /**
+     * Record the available stock of a row after a write. Every level lands in its store's
+     * distribution; only the most active or most critical SKUs also get a gauge of their own.
+     */
+    public void recordInventoryLevel(UUID storeId, String productSku, int level) {
+        stockLevels.record(storeId, productSku, level);
+        stockLevelsByStore.get(storeId).record(level);
     }
 }
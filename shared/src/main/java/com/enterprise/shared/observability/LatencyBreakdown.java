@@ -0,0 +1,171 @@
+package com.enterprise.shared.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the individual stages of an operation (for example the lookup, the save and the
+ * commit of a reservation), overall and per store.
+ *
+ * Stages are resolved once and recorded into HdrHistogram Recorders, which take a sample with
+ * a few atomic operations and no lock. Samples are kept in microseconds at two significant
+ * digits in packed histograms, so a stage costs a few kilobytes per store. Percentiles cover
+ * the last completed window plus the current one; at most maxStores stores are broken out,
+ * the rest are reported together as "other". Each stage also has a plain Micrometer timer.
+ */
+@Component
+public class LatencyBreakdown {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStores;
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+
+    public LatencyBreakdown(MeterRegistry meterRegistry,
+                            @Value("${inventory.latency-breakdown.max-stores:100}") int maxStores) {
+        this.meterRegistry = meterRegistry;
+        this.maxStores = maxStores;
+    }
+
+    /**
+     * Resolve one stage of an operation; call once and keep the handle.
+     */
+    public synchronized Stage stage(String operation, String name) {
+        return stages.computeIfAbsent(operation + "/" + name, key -> new Stage(operation, name));
+    }
+
+    /**
+     * Percentiles of every stage, across all stores.
+     */
+    public List<StageReport> report() {
+        List<StageReport> reports = new ArrayList<>();
+        for (Stage stage : stages()) {
+            reports.add(stage.overall.report(stage.operation, stage.name));
+        }
+        return reports;
+    }
+
+    /**
+     * Percentiles of every stage for one store; empty when the store was never broken out.
+     */
+    public List<StageReport> report(UUID storeId) {
+        List<StageReport> reports = new ArrayList<>();
+        for (Stage stage : stages()) {
+            StageHistogram histogram = stage.byStore.find(storeId);
+            if (histogram != null) {
+                reports.add(histogram.report(stage.operation, stage.name));
+            }
+        }
+        return reports;
+    }
+
+    public int getMaxStores() {
+        return maxStores;
+    }
+
+    /**
+     * Start a new window; the one just completed stays in the reports until the next roll.
+     */
+    @Scheduled(fixedDelayString = "${inventory.latency-breakdown.window:1m}")
+    public void roll() {
+        for (Stage stage : stages()) {
+            stage.overall.roll();
+            stage.byStore.forEach(StageHistogram::roll);
+        }
+    }
+
+    private synchronized List<Stage> stages() {
+        return List.copyOf(stages.values());
+    }
+
+    public final class Stage {
+        private final String operation;
+        private final String name;
+        private final Timer timer;
+        private final StageHistogram overall = new StageHistogram();
+        private final StoreMeterCache<StageHistogram> byStore;
+
+        private Stage(String operation, String name) {
+            this.operation = operation;
+            this.name = name;
+            this.timer = Timer.builder("inventory.stage.time")
+                .description("Time spent in one stage of an inventory operation")
+                .tag("service", "inventory")
+                .tag("operation", operation)
+                .tag("stage", name)
+                .register(meterRegistry);
+            this.byStore = new StoreMeterCache<>(storeId -> new StageHistogram(), maxStores);
+        }
+
+        /**
+         * Record the time since startNanos, for the given store if not null, and return the
+         * current System.nanoTime() so consecutive stages can be chained.
+         */
+        public long record(UUID storeId, long startNanos) {
+            long now = System.nanoTime();
+            long nanos = now - startNanos;
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            overall.record(nanos);
+            if (storeId != null) {
+                byStore.get(storeId).record(nanos);
+            }
+            return now;
+        }
+    }
+
+    private static final class StageHistogram {
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS, true);
+        private Histogram previous = new PackedHistogram(SIGNIFICANT_DIGITS);
+        private Histogram current = new PackedHistogram(SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        void record(long nanos) {
+            recorder.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        }
+
+        synchronized void roll() {
+            drain();
+            previous = current;
+            current = new PackedHistogram(SIGNIFICANT_DIGITS);
+        }
+
+        synchronized StageReport report(String operation, String name) {
+            drain();
+            Histogram window = previous.copy();
+            window.add(current);
+            return new StageReport(operation, name, window.getTotalCount(),
+                millis(window.getValueAtPercentile(50)),
+                millis(window.getValueAtPercentile(90)),
+                millis(window.getValueAtPercentile(99)),
+                millis(window.getValueAtPercentile(99.9)),
+                millis(window.getMaxValue()));
+        }
+
+        private void drain() {
+            interval = recorder.getIntervalHistogram(interval);
+            current.add(interval);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    public record StageReport(String operation, String stage, long count,
+                              double p50Millis, double p90Millis, double p99Millis,
+                              double p999Millis, double maxMillis) {}
+}
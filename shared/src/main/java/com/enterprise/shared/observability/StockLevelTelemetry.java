@@ -0,0 +1,246 @@
+package com.enterprise.shared.observability;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-SKU stock gauges for a bounded set of SKUs.
+ * A Space-Saving summary with a fixed number of counters estimates which store/SKU rows are
+ * updated most, with updates that leave a row at or below the critical level weighted higher so
+ * running-out rows surface quickly. Only the top rows get an inventory.stock.level gauge; the
+ * membership is reconciled at most once per refresh interval, by whichever updating thread
+ * claims it, so both memory and the series count stay fixed whatever the catalog size.
+ * The summary is split into stripes by row, each with its own lock and a share of the counters,
+ * so concurrent saves of different rows rarely contend, and a row already counted is found
+ * without allocating a key.
+ * A gauge reads a holder of its own rather than a counter: a row evicted from the summary and
+ * admitted again gets a new counter, which is attached to the same holder at the next refresh.
+ */
+final class StockLevelTelemetry {
+
+    private static final int COUNTERS_PER_TRACKED_SKU = 4;
+
+    private final MeterRegistry meterRegistry;
+    private final int topSkus;
+    private final int criticalLevel;
+    private final long criticalWeight;
+    private final long refreshIntervalMillis;
+    private final LongSupplier clock;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    private final AtomicLong nextRefresh = new AtomicLong();
+    private final Map<SkuKey, StockGauge> gauges = new HashMap<>();
+
+    StockLevelTelemetry(MeterRegistry meterRegistry, int topSkus, int criticalLevel, long criticalWeight,
+                        Duration refreshInterval, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.topSkus = topSkus;
+        this.criticalLevel = criticalLevel;
+        this.criticalWeight = criticalWeight;
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+        this.clock = clock;
+
+        int capacity = Math.max(1, topSkus * COUNTERS_PER_TRACKED_SKU);
+        int stripeCount = Math.min(Integer.highestOneBit(capacity),
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe((capacity + stripeCount - 1) / stripeCount);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    void record(UUID storeId, String productSku, int level) {
+        long weight = level <= criticalLevel ? criticalWeight : 1;
+        int hash = storeId.hashCode() * 31 + productSku.hashCode();
+        stripes[(hash ^ (hash >>> 16)) & stripeMask].record(storeId, productSku, weight, level);
+
+        long now = clock.getAsLong();
+        long due = nextRefresh.get();
+        if (now >= due && nextRefresh.compareAndSet(due, now + refreshIntervalMillis)) {
+            refreshGauges();
+        }
+    }
+
+    private void refreshGauges() {
+        List<Ranked> ranked = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.snapshot(ranked);
+        }
+        ranked.sort(Comparator.comparingLong(Ranked::count).reversed());
+
+        synchronized (gauges) {
+            Map<SkuKey, Counter> wanted = new HashMap<>();
+            ranked.subList(0, Math.min(topSkus, ranked.size()))
+                .forEach(entry -> wanted.put(entry.counter().key, entry.counter()));
+
+            gauges.entrySet().removeIf(entry -> {
+                if (wanted.containsKey(entry.getKey())) {
+                    return false;
+                }
+                meterRegistry.remove(entry.getValue().meter);
+                return true;
+            });
+
+            wanted.forEach((key, counter) -> {
+                StockGauge gauge = gauges.computeIfAbsent(key, this::registerGauge);
+                // Attach before copying the level, so an update racing with this lands in one of them
+                counter.gauge = gauge;
+                gauge.level = counter.level;
+            });
+        }
+    }
+
+    private StockGauge registerGauge(SkuKey key) {
+        StockGauge gauge = new StockGauge();
+        gauge.meter = Gauge.builder("inventory.stock.level", gauge, g -> g.level)
+            .description("Available stock of one of the most active or most critical SKUs")
+            .tag("store_id", key.storeId().toString())
+            .tag("product_sku", key.productSku())
+            .register(meterRegistry);
+        return gauge;
+    }
+
+    /**
+     * One share of the Space-Saving summary, for the rows that hash to it.
+     */
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<UUID, Map<String, Counter>> counters = new HashMap<>();
+        private final Counter[] heap;
+        private int size;
+
+        private Stripe(int capacity) {
+            this.heap = new Counter[capacity];
+        }
+
+        private void record(UUID storeId, String productSku, long weight, int level) {
+            lock.lock();
+            try {
+                Map<String, Counter> storeCounters = counters.get(storeId);
+                Counter counter = storeCounters != null ? storeCounters.get(productSku) : null;
+                if (counter == null) {
+                    counter = admit(new SkuKey(storeId, productSku));
+                }
+                counter.count += weight;
+                counter.level = level;
+                StockGauge gauge = counter.gauge;
+                if (gauge != null) {
+                    gauge.level = level;
+                }
+                // Counts only grow: a counter appended as a leaf may rise, any other one may sink
+                siftDown(siftUp(counter.heapIndex));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void snapshot(List<Ranked> ranked) {
+            lock.lock();
+            try {
+                for (int i = 0; i < size; i++) {
+                    ranked.add(new Ranked(heap[i], heap[i].count));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Space-Saving admission: take a free counter, or replace the smallest one and inherit its
+         * count as the new key's overestimate.
+         */
+        private Counter admit(SkuKey key) {
+            Counter counter;
+            if (size < heap.length) {
+                counter = new Counter(key);
+                counter.heapIndex = size;
+                heap[size++] = counter;
+            } else {
+                Counter evicted = heap[0];
+                Map<String, Counter> evictedStore = counters.get(evicted.key.storeId());
+                evictedStore.remove(evicted.key.productSku());
+                if (evictedStore.isEmpty()) {
+                    counters.remove(evicted.key.storeId());
+                }
+                counter = new Counter(key);
+                counter.count = evicted.count;
+                counter.heapIndex = 0;
+                heap[0] = counter;
+            }
+            counters.computeIfAbsent(key.storeId(), storeId -> new HashMap<>()).put(key.productSku(), counter);
+            return counter;
+        }
+
+        private int siftUp(int index) {
+            Counter counter = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (heap[parent].count <= counter.count) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                heap[index].heapIndex = index;
+                index = parent;
+            }
+            heap[index] = counter;
+            counter.heapIndex = index;
+            return index;
+        }
+
+        private void siftDown(int index) {
+            Counter counter = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+                    child++;
+                }
+                if (heap[child].count >= counter.count) {
+                    break;
+                }
+                heap[index] = heap[child];
+                heap[index].heapIndex = index;
+                index = child;
+            }
+            heap[index] = counter;
+            counter.heapIndex = index;
+        }
+    }
+
+    private record SkuKey(UUID storeId, String productSku) {}
+
+    private record Ranked(Counter counter, long count) {}
+
+    private static final class Counter {
+        private final SkuKey key;
+        private long count;
+        private int heapIndex;
+        private volatile int level;
+        private volatile StockGauge gauge;
+
+        private Counter(SkuKey key) {
+            this.key = key;
+        }
+    }
+
+    private static final class StockGauge {
+        private Gauge meter;
+        private volatile int level;
+    }
+}
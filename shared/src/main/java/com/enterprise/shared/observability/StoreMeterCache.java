@@ -0,0 +1,180 @@
+package com.enterprise.shared.observability;
+
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Per-store meters of one metric, resolved once and then looked up without locks or allocation.
+ * Readers probe an immutable open-addressing table keyed by the two longs of the store id,
+ * published through a volatile field; a miss registers the meter and publishes a copy of the
+ * table under a lock, which happens once per store.
+ *
+ * Cardinality is capped: once maxStores stores have meters, every further store records into a
+ * single overflow meter tagged "other", so unexpected ids cannot grow the registry without bound.
+ */
+final class StoreMeterCache<M> {
+
+    static final String OVERFLOW_TAG = "other";
+
+    private final Function<String, M> factory;
+    private final int maxStores;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Table table = new Table(8);
+    private volatile M overflow;
+
+    /**
+     * @param factory registers the meter for a store_id tag value
+     */
+    StoreMeterCache(Function<String, M> factory, int maxStores) {
+        this.factory = factory;
+        this.maxStores = maxStores;
+    }
+
+    @SuppressWarnings("unchecked")
+    M get(UUID storeId) {
+        long msb = storeId.getMostSignificantBits();
+        long lsb = storeId.getLeastSignificantBits();
+
+        Table current = table;
+        Object meter = current.find(msb, lsb);
+        if (meter != null) {
+            return (M) meter;
+        }
+        if (current.size >= maxStores) {
+            return overflow();
+        }
+        return register(storeId, msb, lsb);
+    }
+
+    /**
+     * The store's own meter, or null when it has none yet; never registers one.
+     */
+    @SuppressWarnings("unchecked")
+    M find(UUID storeId) {
+        return (M) table.find(storeId.getMostSignificantBits(), storeId.getLeastSignificantBits());
+    }
+
+    /**
+     * Visit every meter, including the overflow one.
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(Consumer<M> action) {
+        for (Object meter : table.meters) {
+            if (meter != null) {
+                action.accept((M) meter);
+            }
+        }
+        M other = overflow;
+        if (other != null) {
+            action.accept(other);
+        }
+    }
+
+    int size() {
+        return table.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private M register(UUID storeId, long msb, long lsb) {
+        lock.lock();
+        try {
+            Table current = table;
+            Object meter = current.find(msb, lsb);
+            if (meter != null) {
+                return (M) meter;
+            }
+            if (current.size >= maxStores) {
+                return overflow();
+            }
+
+            M created = factory.apply(storeId.toString());
+            table = current.with(msb, lsb, created);
+            return created;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private M overflow() {
+        M meter = overflow;
+        if (meter == null) {
+            lock.lock();
+            try {
+                meter = overflow;
+                if (meter == null) {
+                    meter = factory.apply(OVERFLOW_TAG);
+                    overflow = meter;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return meter;
+    }
+
+    /**
+     * Never modified once published; kept at most half full so probes stay short and terminate.
+     */
+    private static final class Table {
+        private final long[] msbs;
+        private final long[] lsbs;
+        private final Object[] meters;
+        private final int size;
+
+        Table(int capacity) {
+            this(new long[capacity], new long[capacity], new Object[capacity], 0);
+        }
+
+        private Table(long[] msbs, long[] lsbs, Object[] meters, int size) {
+            this.msbs = msbs;
+            this.lsbs = lsbs;
+            this.meters = meters;
+            this.size = size;
+        }
+
+        Object find(long msb, long lsb) {
+            int mask = meters.length - 1;
+            for (int slot = slot(msb, lsb, mask); ; slot = (slot + 1) & mask) {
+                Object meter = meters[slot];
+                if (meter == null || (msbs[slot] == msb && lsbs[slot] == lsb)) {
+                    return meter;
+                }
+            }
+        }
+
+        Table with(long msb, long lsb, Object meter) {
+            int capacity = meters.length;
+            while ((size + 1) * 2 > capacity) {
+                capacity <<= 1;
+            }
+
+            Table copy = new Table(capacity);
+            for (int i = 0; i < meters.length; i++) {
+                if (meters[i] != null) {
+                    copy.insert(msbs[i], lsbs[i], meters[i]);
+                }
+            }
+            copy.insert(msb, lsb, meter);
+            return new Table(copy.msbs, copy.lsbs, copy.meters, size + 1);
+        }
+
+        private void insert(long msb, long lsb, Object meter) {
+            int mask = meters.length - 1;
+            int slot = slot(msb, lsb, mask);
+            while (meters[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            msbs[slot] = msb;
+            lsbs[slot] = lsb;
+            meters[slot] = meter;
+        }
+
+        private static int slot(long msb, long lsb, int mask) {
+            long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
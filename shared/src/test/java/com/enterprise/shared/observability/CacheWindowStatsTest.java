@@ -0,0 +1,101 @@
+package com.enterprise.shared.observability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Slot arithmetic of the sliding windows, on a hand-driven clock. A 10 s maximum window keeps
+ * three 5 s slots, so the slot for second 15 reuses the position of the slot for second 0.
+ */
+class CacheWindowStatsTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CacheWindowStats stats = new CacheWindowStats(Duration.ofSeconds(10), clock::get);
+
+    @Test
+    void window_is_the_current_slot_plus_the_whole_slots_before_it() {
+        stats.recordHit();
+        at(6_000);
+        stats.recordMiss();
+
+        assertEquals(1, stats.window(Duration.ZERO).requests());
+        assertEquals(1, stats.window(Duration.ofSeconds(4)).requests());
+        assertEquals(2, stats.window(Duration.ofSeconds(5)).requests());
+    }
+
+    @Test
+    void slots_older_than_the_window_are_left_out_even_before_they_are_reused() {
+        stats.recordHit();
+        at(10_000);
+
+        assertEquals(0, stats.window(Duration.ofSeconds(5)).hits());
+        assertEquals(1, stats.window(Duration.ofSeconds(10)).hits());
+    }
+
+    @Test
+    void a_reused_slot_starts_from_zero_while_the_total_keeps_counting() {
+        stats.recordHit();
+        stats.recordHit();
+        at(15_000);
+        stats.recordMiss();
+
+        CacheWindowStats.Snapshot window = stats.window(Duration.ofSeconds(10));
+        assertEquals(0, window.hits());
+        assertEquals(1, window.misses());
+
+        CacheWindowStats.Snapshot total = stats.total();
+        assertEquals(2, total.hits());
+        assertEquals(1, total.misses());
+    }
+
+    @Test
+    void window_longer_than_the_ring_is_capped_at_the_slots_kept() {
+        stats.recordHit();
+        at(5_000);
+        stats.recordHit();
+        at(10_000);
+        stats.recordHit();
+
+        assertEquals(3, stats.window(Duration.ofMinutes(5)).hits());
+        at(15_000);
+        assertEquals(2, stats.window(Duration.ofMinutes(5)).hits());
+    }
+
+    @Test
+    void a_clock_step_backwards_still_counts() {
+        at(15_000);
+        stats.recordHit();
+        at(1_000);
+        stats.recordHit();
+
+        at(15_000);
+        assertEquals(2, stats.window(Duration.ZERO).hits());
+        assertEquals(2, stats.total().hits());
+    }
+
+    @Test
+    void snapshot_derives_hit_ratio_and_mean_load_time() {
+        stats.recordLookup(true);
+        stats.recordLookup(true);
+        stats.recordLookup(true);
+        stats.recordLookup(false);
+        stats.recordLoad(TimeUnit.MILLISECONDS.toNanos(2));
+        stats.recordLoad(TimeUnit.MILLISECONDS.toNanos(4));
+        stats.recordEviction();
+
+        CacheWindowStats.Snapshot window = stats.window(Duration.ofSeconds(5));
+        assertEquals(0.75, window.hitRatio());
+        assertEquals(3.0, window.meanLoadMillis());
+        assertEquals(1, window.evictions());
+        assertEquals(0.0, new CacheWindowStats.Snapshot(0, 0, 0, 0, 0).hitRatio());
+    }
+
+    private void at(long millis) {
+        clock.set(millis);
+    }
+}